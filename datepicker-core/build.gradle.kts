@@ -0,0 +1,16 @@
+plugins {
+    `java-library`
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+dependencies {
+    // Annotation support, the only dependency so the module runs on any JVM
+    api("androidx.annotation:annotation:1.9.1")
+
+    // Testing
+    testImplementation("junit:junit:4.13.2")
+}
@@ -0,0 +1,175 @@
+package com.shalom.android.material.datepicker;
+
+import androidx.annotation.NonNull;
+
+import java.text.DateFormatSymbols;
+import java.util.Locale;
+
+/**
+ * The names used to display Ethiopic dates in one locale: month names, short weekday names, the
+ * day and night periods of the Ethiopian clock, the abbreviated Gregorian month names used for
+ * sub-labels and the prompt shown while nothing is selected.
+ *
+ * <p>Tables are immutable and shared by every calendar component. Each calendar passes its own
+ * table to whatever it formats with, so calendars in different locales can coexist. The
+ * process-wide {@link #current()} table is only the default for code that has no calendar or
+ * Context at hand; the library never changes it. Tables for Android resource locales are resolved
+ * once per locale by the Android library.
+ */
+public final class CalendarLabels {
+
+    private static final String[] ENGLISH_DAY_PERIOD_NAMES = {"day", "night"};
+    private static final String ENGLISH_SELECTION_PROMPT = "Select a date";
+
+    /** Built-in English names, used until a calendar resolves the tables of its locale. */
+    public static final CalendarLabels ENGLISH = new CalendarLabels(
+            Locale.ENGLISH,
+            new String[] {
+                    "Meskerem", "Tikimt", "Hidar", "Tahsas", "Tir", "Yekatit",
+                    "Megabit", "Miazia", "Ginbot", "Sene", "Hamle", "Nehase", "Pagume"
+            },
+            new String[] {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"},
+            "%d days");
+
+    private static volatile CalendarLabels current = ENGLISH;
+
+    private final Locale locale;
+    private final String[] monthNames;
+    private final String[] weekdayNamesShort;
+    private final String dayCountFormat;
+    private final String[] dayPeriodNames;
+    private final String selectionPrompt;
+    private final String[] gregorianMonthAbbreviations;
+
+    /**
+     * @param monthNames the 13 Ethiopic month names, Meskerem first
+     * @param weekdayNamesShort the 7 short weekday names, Monday first
+     * @param dayCountFormat format for a number of days, e.g. {@code "%d days"}
+     */
+    public CalendarLabels(
+            @NonNull Locale locale,
+            @NonNull String[] monthNames,
+            @NonNull String[] weekdayNamesShort,
+            @NonNull String dayCountFormat) {
+        this(locale, monthNames, weekdayNamesShort, dayCountFormat, ENGLISH_DAY_PERIOD_NAMES);
+    }
+
+    /**
+     * @param dayPeriodNames the names of the 12 clock hours from dawn and from dusk, e.g.
+     *     {@code {"day", "night"}}
+     */
+    public CalendarLabels(
+            @NonNull Locale locale,
+            @NonNull String[] monthNames,
+            @NonNull String[] weekdayNamesShort,
+            @NonNull String dayCountFormat,
+            @NonNull String[] dayPeriodNames) {
+        this(locale, monthNames, weekdayNamesShort, dayCountFormat, dayPeriodNames,
+                ENGLISH_SELECTION_PROMPT);
+    }
+
+    /**
+     * @param selectionPrompt the header text shown while nothing is selected, e.g.
+     *     {@code "Select a date"}
+     */
+    public CalendarLabels(
+            @NonNull Locale locale,
+            @NonNull String[] monthNames,
+            @NonNull String[] weekdayNamesShort,
+            @NonNull String dayCountFormat,
+            @NonNull String[] dayPeriodNames,
+            @NonNull String selectionPrompt) {
+        if (monthNames.length != 13 || weekdayNamesShort.length != 7 || dayPeriodNames.length != 2) {
+            throw new IllegalArgumentException(
+                    "Expected 13 month names, 7 weekday names and 2 day period names");
+        }
+        this.locale = locale;
+        this.monthNames = monthNames.clone();
+        this.weekdayNamesShort = weekdayNamesShort.clone();
+        this.dayCountFormat = dayCountFormat;
+        this.dayPeriodNames = dayPeriodNames.clone();
+        this.selectionPrompt = selectionPrompt;
+        this.gregorianMonthAbbreviations = DateFormatSymbols.getInstance(locale).getShortMonths();
+    }
+
+    /**
+     * Returns the table used by components that have no {@code Context} to resolve one.
+     */
+    @NonNull
+    public static CalendarLabels current() {
+        return current;
+    }
+
+    /**
+     * Makes {@code labels} the table returned by {@link #current()}, for apps that format dates
+     * without a calendar. Calendars are not affected.
+     */
+    public static void setCurrent(@NonNull CalendarLabels labels) {
+        current = labels;
+    }
+
+    @NonNull
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Returns the name of Ethiopic month {@code month}, 1 (Meskerem) to 13 (Pagume).
+     */
+    @NonNull
+    public String getMonthName(int month) {
+        return monthNames[month - 1];
+    }
+
+    /**
+     * Returns the short name of {@code dayOfWeek}, 1 (Monday) to 7 (Sunday).
+     */
+    @NonNull
+    public String getWeekdayNameShort(int dayOfWeek) {
+        return weekdayNamesShort[dayOfWeek - 1];
+    }
+
+    /**
+     * Returns the abbreviated name of Gregorian month {@code month}, 1 (January) to 12.
+     */
+    @NonNull
+    public String getGregorianMonthAbbreviation(int month) {
+        return gregorianMonthAbbreviations[month - 1];
+    }
+
+    /**
+     * Returns the name of the Ethiopian clock period, the 12 hours from dawn or from dusk.
+     */
+    @NonNull
+    public String getDayPeriodName(boolean night) {
+        return dayPeriodNames[night ? 1 : 0];
+    }
+
+    /**
+     * Formats a number of days, e.g. "3 days".
+     */
+    @NonNull
+    public String formatDayCount(int count) {
+        return String.format(locale, dayCountFormat, count);
+    }
+
+    /**
+     * Returns the header text shown while nothing is selected.
+     */
+    @NonNull
+    public String getSelectionPrompt() {
+        return selectionPrompt;
+    }
+
+    /** The month names, Meskerem first. Callers must not modify the array. */
+    @NonNull
+    String[] monthNames() {
+        return monthNames;
+    }
+
+    /** The short weekday names, Monday first. Callers must not modify the array. */
+    @NonNull
+    String[] weekdayNamesShort() {
+        return weekdayNamesShort;
+    }
+}
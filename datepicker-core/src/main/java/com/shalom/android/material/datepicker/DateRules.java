@@ -0,0 +1,302 @@
+package com.shalom.android.material.datepicker;
+
+import androidx.annotation.NonNull;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Availability rules such as "weekdays only" or "no Pagume", answered per epoch day.
+ *
+ * <p>Rules are compiled lazily into one bitset of 366 bits per Ethiopic year, so any date is
+ * answered with a single bit test regardless of how many rules were added. This is the engine
+ * behind the Android {@code RuleDateValidator}, usable on its own on any JVM.
+ *
+ * <pre>
+ * DateRules rules = new DateRules.Builder()
+ *     .weekdaysOnly()
+ *     .excludeMonth(13)
+ *     .excludeFixedHolidays()
+ *     .build();
+ * boolean open = rules.isValid(epochDay);
+ * </pre>
+ */
+public final class DateRules {
+
+    private static final int RULE_EXCLUDE_DAY_OF_WEEK = 1;
+    private static final int RULE_EXCLUDE_MONTH = 2;
+    private static final int RULE_EXCLUDE_DATE = 3;
+    private static final int RULE_DAY_OF_MONTH_BETWEEN = 4;
+    private static final int RULE_EXCLUDE_RANGE = 5;
+
+    /** Number of ints per encoded rule: type, first argument, second argument. */
+    private static final int RULE_SIZE = 3;
+
+    /** Fixed public holidays as Ethiopic month and day pairs. */
+    private static final int[][] FIXED_HOLIDAYS = {
+            {1, 1},   // Enkutatash
+            {1, 17},  // Meskel
+            {4, 29},  // Genna
+            {5, 11},  // Timket
+            {6, 23},  // Adwa Victory Day
+            {8, 27},  // Patriots' Victory Day
+            {9, 20},  // Downfall of the Derg
+    };
+
+    private static final int YEAR_WORDS = (366 + 63) / 64;
+
+    private final int[] rules;
+
+    // Compiled years, sorted by year and guarded by this
+    private int[] compiledYears = new int[4];
+    private long[][] compiledBits = new long[4][];
+    private int compiledCount;
+
+    private DateRules(@NonNull int[] rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Restores rules from the array returned by {@link #toArray()}.
+     */
+    @NonNull
+    static DateRules fromArray(@NonNull int[] rules) {
+        if (rules.length % RULE_SIZE != 0) {
+            throw new IllegalArgumentException("Malformed rule array of length " + rules.length);
+        }
+        return new DateRules(rules);
+    }
+
+    /**
+     * Returns the rules as a flat array of (type, first, second) triples, for serialization.
+     * Callers must not modify the array.
+     */
+    @NonNull
+    int[] toArray() {
+        return rules;
+    }
+
+    /**
+     * Returns true if the given epoch day passes every rule.
+     */
+    public boolean isValid(int epochDay) {
+        int year = EthiopicDateConverter.epochDayToEthiopicYear(epochDay);
+        int dayOfYear = epochDay - EthiopicDateConverter.ethiopicToEpochDay(year, 1, 1);
+        long[] bits = getYearBits(year);
+        return (bits[dayOfYear >> 6] & (1L << dayOfYear)) != 0;
+    }
+
+    /**
+     * Sets bit {@code i} of {@code out} if day {@code startEpochDay + i} passes every rule and
+     * clears it otherwise, for {@code i} below {@code count}.
+     */
+    public void isValidRange(int startEpochDay, int count, @NonNull BitSet out) {
+        int year = EthiopicDateConverter.epochDayToEthiopicYear(startEpochDay);
+        int yearStart = EthiopicDateConverter.ethiopicToEpochDay(year, 1, 1);
+        int yearLength = EthiopicDateConverter.getEthiopicYearDays(year);
+        long[] bits = getYearBits(year);
+
+        for (int i = 0; i < count; i++) {
+            int dayOfYear = startEpochDay + i - yearStart;
+            if (dayOfYear >= yearLength) {
+                year++;
+                yearStart += yearLength;
+                yearLength = EthiopicDateConverter.getEthiopicYearDays(year);
+                bits = getYearBits(year);
+                dayOfYear = 0;
+            }
+            out.set(i, (bits[dayOfYear >> 6] & (1L << dayOfYear)) != 0);
+        }
+    }
+
+    private synchronized long[] getYearBits(int year) {
+        int index = Arrays.binarySearch(compiledYears, 0, compiledCount, year);
+        if (index >= 0) {
+            return compiledBits[index];
+        }
+        long[] bits = compileYear(year);
+        index = -index - 1;
+        if (compiledCount == compiledYears.length) {
+            compiledYears = Arrays.copyOf(compiledYears, compiledCount * 2);
+            compiledBits = Arrays.copyOf(compiledBits, compiledCount * 2);
+        }
+        System.arraycopy(compiledYears, index, compiledYears, index + 1, compiledCount - index);
+        System.arraycopy(compiledBits, index, compiledBits, index + 1, compiledCount - index);
+        compiledYears[index] = year;
+        compiledBits[index] = bits;
+        compiledCount++;
+        return bits;
+    }
+
+    private long[] compileYear(int year) {
+        long[] bits = new long[YEAR_WORDS];
+        int yearStart = EthiopicDateConverter.ethiopicToEpochDay(year, 1, 1);
+        int yearLength = EthiopicDateConverter.getEthiopicYearDays(year);
+
+        for (int dayOfYear = 0; dayOfYear < yearLength; dayOfYear++) {
+            int epochDay = yearStart + dayOfYear;
+            int month = dayOfYear / 30 + 1;
+            int day = dayOfYear % 30 + 1;
+            if (passesRules(epochDay, month, day)) {
+                bits[dayOfYear >> 6] |= 1L << dayOfYear;
+            }
+        }
+        return bits;
+    }
+
+    private boolean passesRules(int epochDay, int month, int day) {
+        for (int i = 0; i < rules.length; i += RULE_SIZE) {
+            int first = rules[i + 1];
+            int second = rules[i + 2];
+            switch (rules[i]) {
+                case RULE_EXCLUDE_DAY_OF_WEEK:
+                    if (EthiopicDateConverter.dayOfWeek(epochDay) == first) {
+                        return false;
+                    }
+                    break;
+                case RULE_EXCLUDE_MONTH:
+                    if (month == first) {
+                        return false;
+                    }
+                    break;
+                case RULE_EXCLUDE_DATE:
+                    if (month == first && day == second) {
+                        return false;
+                    }
+                    break;
+                case RULE_DAY_OF_MONTH_BETWEEN:
+                    if (day < first || day > second) {
+                        return false;
+                    }
+                    break;
+                case RULE_EXCLUDE_RANGE:
+                    if (epochDay >= first && epochDay <= second) {
+                        return false;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DateRules)) return false;
+        return Arrays.equals(rules, ((DateRules) o).rules);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(rules);
+    }
+
+    /**
+     * Builder for {@link DateRules}. A date is valid only if it passes every rule.
+     */
+    public static final class Builder {
+
+        private int[] rules = new int[RULE_SIZE * 8];
+        private int size;
+
+        public Builder() {}
+
+        /**
+         * Excludes Saturdays and Sundays.
+         */
+        @NonNull
+        public Builder weekdaysOnly() {
+            return excludeDayOfWeek(DayOfWeek.SATURDAY.getValue())
+                    .excludeDayOfWeek(DayOfWeek.SUNDAY.getValue());
+        }
+
+        /**
+         * Excludes a day of the week.
+         *
+         * @param dayOfWeek ISO day of week, 1 (Monday) to 7 (Sunday)
+         */
+        @NonNull
+        public Builder excludeDayOfWeek(int dayOfWeek) {
+            if (dayOfWeek < 1 || dayOfWeek > 7) {
+                throw new IllegalArgumentException("Invalid day of week: " + dayOfWeek);
+            }
+            return add(RULE_EXCLUDE_DAY_OF_WEEK, dayOfWeek, 0);
+        }
+
+        /**
+         * Excludes a whole Ethiopic month in every year, e.g. 13 for Pagume.
+         */
+        @NonNull
+        public Builder excludeMonth(int month) {
+            if (month < 1 || month > 13) {
+                throw new IllegalArgumentException("Invalid Ethiopic month: " + month);
+            }
+            return add(RULE_EXCLUDE_MONTH, month, 0);
+        }
+
+        /**
+         * Excludes an Ethiopic month and day in every year.
+         */
+        @NonNull
+        public Builder excludeDate(int month, int day) {
+            if (month < 1 || month > 13 || day < 1 || day > 30) {
+                throw new IllegalArgumentException("Invalid Ethiopic date: " + month + "/" + day);
+            }
+            return add(RULE_EXCLUDE_DATE, month, day);
+        }
+
+        /**
+         * Excludes the public holidays that fall on a fixed Ethiopic date.
+         */
+        @NonNull
+        public Builder excludeFixedHolidays() {
+            for (int[] holiday : FIXED_HOLIDAYS) {
+                excludeDate(holiday[0], holiday[1]);
+            }
+            return this;
+        }
+
+        /**
+         * Only allows days {@code firstDay} to {@code lastDay} (inclusive) of each month.
+         */
+        @NonNull
+        public Builder dayOfMonthBetween(int firstDay, int lastDay) {
+            if (firstDay < 1 || lastDay > 30 || firstDay > lastDay) {
+                throw new IllegalArgumentException("Invalid day range: " + firstDay + "-" + lastDay);
+            }
+            return add(RULE_DAY_OF_MONTH_BETWEEN, firstDay, lastDay);
+        }
+
+        /**
+         * Excludes all days from {@code startEpochDay} to {@code endEpochDay}, inclusive.
+         */
+        @NonNull
+        public Builder excludeEpochDayRange(int startEpochDay, int endEpochDay) {
+            if (startEpochDay > endEpochDay) {
+                throw new IllegalArgumentException("Range start is after its end");
+            }
+            return add(RULE_EXCLUDE_RANGE, startEpochDay, endEpochDay);
+        }
+
+        private Builder add(int type, int first, int second) {
+            if (size + RULE_SIZE > rules.length) {
+                rules = Arrays.copyOf(rules, rules.length * 2);
+            }
+            rules[size++] = type;
+            rules[size++] = first;
+            rules[size++] = second;
+            return this;
+        }
+
+        /**
+         * Creates a {@link DateRules} instance.
+         */
+        @NonNull
+        public DateRules build() {
+            return new DateRules(Arrays.copyOf(rules, size));
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.shalom.android.material.datepicker;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only per-day attribute flags, such as holiday, fasting day or office closed, stored as one
+ * fixed-width value per day.
+ *
+ * <p>A store file is a 16-byte header followed by the values of consecutive days, so the value of
+ * a day is read at an offset computed from its epoch day. Files are opened with
+ * {@link FileChannel#map}: nothing is parsed or copied onto the heap, opening is instant however
+ * many years the file covers, and processes mapping the same file share its pages. Files are
+ * written offline with {@link Builder}.
+ *
+ * <p>Header layout, big-endian: magic {@code "EDAS"}, version (2 bytes), value width in bytes
+ * (2 bytes, 1, 2 or 4), first epoch day (4 bytes), number of days (4 bytes).
+ *
+ * <pre>
+ * DayAttributeStore store = DayAttributeStore.open(file);
+ * boolean closed = store.has(epochDay, OFFICE_CLOSED);
+ * </pre>
+ */
+public final class DayAttributeStore {
+
+    private static final int MAGIC = 0x45444153; // "EDAS"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+
+    /** The whole store file, header included. */
+    private final ByteBuffer source;
+    /** The day values, starting at index 0. */
+    private final ByteBuffer buffer;
+    private final int width;
+    private final int firstEpochDay;
+    private final int dayCount;
+    @Nullable private final File file;
+
+    private DayAttributeStore(@NonNull ByteBuffer buffer, @Nullable File file) {
+        ByteBuffer data = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        if (data.remaining() < HEADER_BYTES || data.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a day attribute store");
+        }
+        int version = data.getShort(4);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported store version: " + version);
+        }
+        this.width = data.getShort(6);
+        this.firstEpochDay = data.getInt(8);
+        this.dayCount = data.getInt(12);
+        if (width != 1 && width != 2 && width != 4) {
+            throw new IllegalArgumentException("Unsupported value width: " + width);
+        }
+        if (dayCount < 0 || data.remaining() < HEADER_BYTES + (long) dayCount * width) {
+            throw new IllegalArgumentException("Store is truncated");
+        }
+        this.source = data.asReadOnlyBuffer();
+        data.position(HEADER_BYTES);
+        this.buffer = data.slice();
+        this.file = file;
+    }
+
+    /**
+     * Maps {@code file} read-only. The mapping stays valid after this returns and is released
+     * when the store is garbage collected.
+     *
+     * @throws IllegalArgumentException if the file is not a store
+     */
+    @NonNull
+    public static DayAttributeStore open(@NonNull File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new DayAttributeStore(mapped, file);
+        }
+    }
+
+    /**
+     * Reads a store from the bytes of a store file, for example loaded from an asset into a direct
+     * buffer. The buffer is used in place, from its position on.
+     *
+     * @throws IllegalArgumentException if the buffer does not hold a store
+     */
+    @NonNull
+    public static DayAttributeStore wrap(@NonNull ByteBuffer buffer) {
+        return new DayAttributeStore(buffer.slice(), null);
+    }
+
+    /**
+     * Returns the attribute bits of {@code epochDay}, or 0 for days the store does not cover.
+     */
+    public int get(int epochDay) {
+        int index = epochDay - firstEpochDay;
+        if (index < 0 || index >= dayCount) {
+            return 0;
+        }
+        switch (width) {
+            case 1:
+                return buffer.get(index) & 0xFF;
+            case 2:
+                return buffer.getShort(index << 1) & 0xFFFF;
+            default:
+                return buffer.getInt(index << 2);
+        }
+    }
+
+    /**
+     * Returns true if {@code epochDay} has any of the bits in {@code mask}.
+     */
+    public boolean has(int epochDay, int mask) {
+        return (get(epochDay) & mask) != 0;
+    }
+
+    /**
+     * Reads the attribute bits of {@code count} consecutive days into {@code out}, starting at
+     * index {@code offset}. A month is read with one call and no allocation.
+     */
+    public void read(int startEpochDay, int count, @NonNull int[] out, int offset) {
+        for (int i = 0; i < count; i++) {
+            out[offset + i] = get(startEpochDay + i);
+        }
+    }
+
+    /** Returns the first epoch day the store covers. */
+    public int getFirstEpochDay() {
+        return firstEpochDay;
+    }
+
+    /** Returns the number of consecutive days the store covers. */
+    public int getDayCount() {
+        return dayCount;
+    }
+
+    /** Returns the size of one day's value in bytes: 1, 2 or 4. */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the file the store was opened from, or null if it was wrapped from a buffer.
+     */
+    @Nullable
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the bytes of the whole store file, for copying a store that has no file.
+     */
+    @NonNull
+    ByteBuffer getBytes() {
+        return source.duplicate();
+    }
+
+    /**
+     * Writes store files. The builder holds every day's value in memory and is meant for offline
+     * generation, such as a build step or a server job.
+     */
+    public static final class Builder {
+
+        private final int firstEpochDay;
+        private final int width;
+        private final int[] values;
+
+        /**
+         * @param firstEpochDay first day the store covers
+         * @param dayCount number of consecutive days covered
+         * @param width bytes per day: 1, 2 or 4, bounding the attribute bits at 8, 16 or 32
+         */
+        public Builder(int firstEpochDay, int dayCount, int width) {
+            if (width != 1 && width != 2 && width != 4) {
+                throw new IllegalArgumentException("Unsupported value width: " + width);
+            }
+            this.firstEpochDay = firstEpochDay;
+            this.width = width;
+            this.values = new int[dayCount];
+        }
+
+        /**
+         * Sets the attribute bits of {@code epochDay}, replacing earlier ones.
+         */
+        @NonNull
+        public Builder set(int epochDay, int attributes) {
+            values[indexOf(epochDay)] = checkWidth(attributes);
+            return this;
+        }
+
+        /**
+         * Adds {@code mask} to the attribute bits of every day from {@code startEpochDay} to
+         * {@code endEpochDay}, inclusive.
+         */
+        @NonNull
+        public Builder add(int startEpochDay, int endEpochDay, int mask) {
+            checkWidth(mask);
+            int from = indexOf(startEpochDay);
+            int to = indexOf(endEpochDay);
+            for (int i = from; i <= to; i++) {
+                values[i] |= mask;
+            }
+            return this;
+        }
+
+        /**
+         * Adds {@code mask} to the attribute bits of {@code epochDay}.
+         */
+        @NonNull
+        public Builder add(int epochDay, int mask) {
+            return add(epochDay, epochDay, mask);
+        }
+
+        private int indexOf(int epochDay) {
+            int index = epochDay - firstEpochDay;
+            if (index < 0 || index >= values.length) {
+                throw new IllegalArgumentException("Epoch day outside the store: " + epochDay);
+            }
+            return index;
+        }
+
+        private int checkWidth(int attributes) {
+            if (width < 4 && (attributes >>> (width * 8)) != 0) {
+                throw new IllegalArgumentException("Attributes do not fit in " + width + " bytes");
+            }
+            return attributes;
+        }
+
+        private ByteBuffer encode() {
+            ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES + values.length * width);
+            out.putInt(MAGIC)
+                    .putShort((short) VERSION)
+                    .putShort((short) width)
+                    .putInt(firstEpochDay)
+                    .putInt(values.length);
+            for (int value : values) {
+                switch (width) {
+                    case 1:
+                        out.put((byte) value);
+                        break;
+                    case 2:
+                        out.putShort((short) value);
+                        break;
+                    default:
+                        out.putInt(value);
+                        break;
+                }
+            }
+            out.flip();
+            return out;
+        }
+
+        /**
+         * Writes the store file to {@code out}.
+         */
+        public void writeTo(@NonNull OutputStream out) throws IOException {
+            ByteBuffer encoded = encode();
+            out.write(encoded.array(), 0, encoded.limit());
+        }
+
+        /**
+         * Writes the store to {@code file}, replacing it atomically. The bytes go to a temporary
+         * file in the same directory that is then moved over {@code file}, so readers see the old
+         * file or the new one, never a partial one, and stores already mapping the old file keep
+         * reading it instead of faulting on a truncated mapping.
+         */
+        public void writeTo(@NonNull File file) throws IOException {
+            Path target = file.getAbsoluteFile().toPath();
+            Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    writeTo(out);
+                }
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        /**
+         * Creates an in-memory store with the current values.
+         */
+        @NonNull
+        public DayAttributeStore build() {
+            return new DayAttributeStore(encode(), null);
+        }
+    }
+}
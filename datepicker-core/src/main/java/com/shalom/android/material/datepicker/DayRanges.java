@@ -0,0 +1,161 @@
+package com.shalom.android.material.datepicker;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * An immutable set of inclusive epoch day ranges, for example booked dates.
+ *
+ * <p>Ranges are merged and stored as sorted primitive start and end epoch days, so point queries
+ * are a binary search and a span of days is answered by visiting only the ranges that overlap
+ * it. This is the engine behind the Android {@code IntervalDateValidator}, usable on its own on
+ * any JVM.
+ */
+public final class DayRanges {
+
+    private static final DayRanges EMPTY = new DayRanges(new int[0], new int[0]);
+
+    /** Inclusive start epoch day of each range, ascending. */
+    private final int[] starts;
+    /** Inclusive end epoch day of each range, ascending. */
+    private final int[] ends;
+
+    private DayRanges(@NonNull int[] starts, @NonNull int[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    /** Returns the empty set of ranges. */
+    @NonNull
+    public static DayRanges empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Wraps already merged, ascending range bounds without copying them, as read back from a
+     * serialized form. Callers must not modify the arrays afterwards.
+     */
+    @NonNull
+    static DayRanges wrap(@NonNull int[] starts, @NonNull int[] ends) {
+        return starts.length == 0 ? EMPTY : new DayRanges(starts, ends);
+    }
+
+    /**
+     * Returns true if the given epoch day falls inside a range.
+     */
+    public boolean contains(int epochDay) {
+        int index = firstEndingOnOrAfter(epochDay);
+        return index < starts.length && starts[index] <= epochDay;
+    }
+
+    /**
+     * Sets bit {@code i} of {@code out} if day {@code startEpochDay + i} is outside every range
+     * and clears it otherwise, for {@code i} below {@code count}.
+     */
+    public void setUncovered(int startEpochDay, int count, @NonNull BitSet out) {
+        out.set(0, count);
+        int endEpochDay = startEpochDay + count - 1;
+        for (int i = firstEndingOnOrAfter(startEpochDay); i < starts.length && starts[i] <= endEpochDay; i++) {
+            int from = Math.max(starts[i], startEpochDay) - startEpochDay;
+            int to = Math.min(ends[i], endEpochDay) - startEpochDay;
+            out.clear(from, to + 1);
+        }
+    }
+
+    /**
+     * Returns the number of ranges after merging.
+     */
+    public int getRangeCount() {
+        return starts.length;
+    }
+
+    /** Returns the start epoch day of range {@code index}. */
+    public int getStart(int index) {
+        return starts[index];
+    }
+
+    /** Returns the inclusive end epoch day of range {@code index}. */
+    public int getEnd(int index) {
+        return ends[index];
+    }
+
+    /** Index of the first range whose end is not before {@code epochDay}. */
+    private int firstEndingOnOrAfter(int epochDay) {
+        int low = 0;
+        int high = ends.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ends[mid] < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DayRanges)) return false;
+        DayRanges other = (DayRanges) o;
+        return Arrays.equals(starts, other.starts) && Arrays.equals(ends, other.ends);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(starts) + Arrays.hashCode(ends);
+    }
+
+    /**
+     * Builder for {@link DayRanges}. Ranges may be added in any order and may overlap.
+     */
+    public static final class Builder {
+
+        /** Ranges packed as (start << 32 | end) so they sort by start. */
+        private long[] ranges = new long[16];
+        private int size;
+
+        public Builder() {}
+
+        /**
+         * Adds all days from {@code startEpochDay} to {@code endEpochDay}, inclusive.
+         */
+        @NonNull
+        public Builder add(int startEpochDay, int endEpochDay) {
+            if (startEpochDay > endEpochDay) {
+                throw new IllegalArgumentException("Range start is after its end");
+            }
+            if (size == ranges.length) {
+                ranges = Arrays.copyOf(ranges, size * 2);
+            }
+            ranges[size++] = ((long) startEpochDay << 32) | (endEpochDay & 0xFFFFFFFFL);
+            return this;
+        }
+
+        /**
+         * Creates a {@link DayRanges}, merging overlapping and adjacent ranges.
+         */
+        @NonNull
+        public DayRanges build() {
+            Arrays.sort(ranges, 0, size);
+            int[] starts = new int[size];
+            int[] ends = new int[size];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                int start = (int) (ranges[i] >> 32);
+                int end = (int) ranges[i];
+                if (count > 0 && start <= ends[count - 1] + 1) {
+                    ends[count - 1] = Math.max(ends[count - 1], end);
+                } else {
+                    starts[count] = start;
+                    ends[count] = end;
+                    count++;
+                }
+            }
+            return wrap(Arrays.copyOf(starts, count), Arrays.copyOf(ends, count));
+        }
+    }
+}
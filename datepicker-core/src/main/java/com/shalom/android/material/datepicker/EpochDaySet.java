@@ -0,0 +1,310 @@
+package com.shalom.android.material.datepicker;
+
+import androidx.annotation.NonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable set of days stored as sorted primitive epoch days.
+ *
+ * <p>As a {@code Set<Long>} it exposes each day as the timestamp of its start in milliseconds,
+ * converting lazily during iteration. Modifying methods such as {@link #toggle(int)} return a new
+ * set and leave this one untouched, so a set can be handed out as a snapshot without copying.
+ *
+ * <p>The days are kept in sorted chunks of at most {@value #MAX_CHUNK_SIZE}. A toggle copies only
+ * the chunk it changes and shares the others with the original set, so a roster of tens of
+ * thousands of days costs a couple of kilobytes per tap rather than a copy of every day.
+ */
+public final class EpochDaySet extends AbstractSet<Long> {
+
+    /** Largest chunk; a chunk growing past it is split in two. */
+    static final int MAX_CHUNK_SIZE = 512;
+
+    private static final EpochDaySet EMPTY = new EpochDaySet(new int[0][], new int[] {0});
+
+    /** Non-empty sorted chunks, every day of a chunk below every day of the next. */
+    private final int[][] chunks;
+    /** Index of the first day of each chunk, followed by the size of the set. */
+    private final int[] offsets;
+
+    private EpochDaySet(@NonNull int[][] chunks, @NonNull int[] offsets) {
+        this.chunks = chunks;
+        this.offsets = offsets;
+    }
+
+    /** Returns the empty set. */
+    @NonNull
+    public static EpochDaySet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a set from epoch days in any order. Duplicates are dropped.
+     */
+    @NonNull
+    public static EpochDaySet of(@NonNull int[] epochDays) {
+        return wrapSorted(sortedDistinct(epochDays));
+    }
+
+    /**
+     * Returns {@code epochDays} sorted and without duplicates, as a new array unless it already is
+     * empty.
+     */
+    @NonNull
+    static int[] sortedDistinct(@NonNull int[] epochDays) {
+        if (epochDays.length == 0) {
+            return epochDays;
+        }
+        int[] sorted = epochDays.clone();
+        Arrays.sort(sorted);
+        int count = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[count - 1]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+        return count == sorted.length ? sorted : Arrays.copyOf(sorted, count);
+    }
+
+    /** Wraps an array that is already sorted and free of duplicates. */
+    @NonNull
+    static EpochDaySet wrapSorted(@NonNull int[] sortedEpochDays) {
+        int length = sortedEpochDays.length;
+        if (length == 0) {
+            return EMPTY;
+        }
+        if (length <= MAX_CHUNK_SIZE) {
+            return new EpochDaySet(new int[][] {sortedEpochDays}, new int[] {0, length});
+        }
+        int[][] chunks = new int[(length + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE][];
+        for (int i = 0; i < chunks.length; i++) {
+            int from = i * MAX_CHUNK_SIZE;
+            chunks[i] = Arrays.copyOfRange(sortedEpochDays, from, Math.min(from + MAX_CHUNK_SIZE, length));
+        }
+        return withChunks(chunks);
+    }
+
+    @NonNull
+    private static EpochDaySet withChunks(@NonNull int[][] chunks) {
+        if (chunks.length == 0) {
+            return EMPTY;
+        }
+        int[] offsets = new int[chunks.length + 1];
+        for (int i = 0; i < chunks.length; i++) {
+            offsets[i + 1] = offsets[i] + chunks[i].length;
+        }
+        return new EpochDaySet(chunks, offsets);
+    }
+
+    @Override
+    public int size() {
+        return offsets[chunks.length];
+    }
+
+    /** Returns the epoch day at {@code index} in ascending order. */
+    public int getEpochDay(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + ", size " + size());
+        }
+        int chunk = Arrays.binarySearch(offsets, 0, chunks.length, index);
+        if (chunk < 0) {
+            chunk = -chunk - 2;
+        }
+        return chunks[chunk][index - offsets[chunk]];
+    }
+
+    /** Returns true if the set contains the given epoch day. */
+    public boolean containsEpochDay(int epochDay) {
+        int chunk = chunkFor(epochDay);
+        return chunk < chunks.length && Arrays.binarySearch(chunks[chunk], epochDay) >= 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Long && containsEpochDay(EpochDays.fromTimeInMillis((Long) o));
+    }
+
+    /**
+     * Returns the first chunk whose last day is at or after {@code epochDay}, or the chunk count
+     * if there is none.
+     */
+    private int chunkFor(int epochDay) {
+        int low = 0;
+        int high = chunks.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int[] chunk = chunks[mid];
+            if (chunk[chunk.length - 1] < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns a set with {@code epochDay} added if absent, or removed if present. Only the chunk
+     * holding the day is copied.
+     */
+    @NonNull
+    public EpochDaySet toggle(int epochDay) {
+        if (chunks.length == 0) {
+            return wrapSorted(new int[] {epochDay});
+        }
+        // A day after every chunk goes into the last one
+        int chunkIndex = Math.min(chunkFor(epochDay), chunks.length - 1);
+        int[] chunk = chunks[chunkIndex];
+        int index = Arrays.binarySearch(chunk, epochDay);
+        int[][] result;
+        if (index >= 0) {
+            int[] smaller = new int[chunk.length - 1];
+            System.arraycopy(chunk, 0, smaller, 0, index);
+            System.arraycopy(chunk, index + 1, smaller, index, chunk.length - index - 1);
+            result = replaceChunk(chunkIndex, smaller.length == 0 ? new int[0][] : new int[][] {smaller});
+        } else {
+            int insertion = -index - 1;
+            int[] larger = new int[chunk.length + 1];
+            System.arraycopy(chunk, 0, larger, 0, insertion);
+            larger[insertion] = epochDay;
+            System.arraycopy(chunk, insertion, larger, insertion + 1, chunk.length - insertion);
+            result = replaceChunk(chunkIndex, larger.length <= MAX_CHUNK_SIZE
+                    ? new int[][] {larger}
+                    : new int[][] {
+                            Arrays.copyOfRange(larger, 0, larger.length / 2),
+                            Arrays.copyOfRange(larger, larger.length / 2, larger.length)
+                    });
+        }
+        return withChunks(result);
+    }
+
+    /** Returns the chunk array with chunk {@code index} replaced by {@code replacement}. */
+    @NonNull
+    private int[][] replaceChunk(int index, @NonNull int[][] replacement) {
+        int[][] result = new int[chunks.length - 1 + replacement.length][];
+        System.arraycopy(chunks, 0, result, 0, index);
+        System.arraycopy(replacement, 0, result, index, replacement.length);
+        System.arraycopy(chunks, index + 1, result, index + replacement.length, chunks.length - index - 1);
+        return result;
+    }
+
+    /**
+     * Sets bit {@code i} of {@code out} for every day {@code startEpochDay + i} in the set, for
+     * {@code i} below {@code count}. Other bits are left untouched.
+     */
+    public void fillMask(int startEpochDay, int count, @NonNull BitSet out) {
+        int end = startEpochDay + count;
+        for (int c = chunkFor(startEpochDay); c < chunks.length; c++) {
+            int[] chunk = chunks[c];
+            int index = Arrays.binarySearch(chunk, startEpochDay);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            for (; index < chunk.length; index++) {
+                if (chunk[index] >= end) {
+                    return;
+                }
+                out.set(chunk[index] - startEpochDay);
+            }
+        }
+    }
+
+    /** Returns a copy of the epoch days in ascending order. */
+    @NonNull
+    public int[] toEpochDayArray() {
+        return chunks.length == 1 ? chunks[0].clone() : epochDays();
+    }
+
+    /**
+     * The epoch days in ascending order. A set of one chunk returns its backing array, so callers
+     * must not modify it.
+     */
+    @NonNull
+    int[] epochDays() {
+        if (chunks.length == 1) {
+            return chunks[0];
+        }
+        int[] days = new int[size()];
+        for (int i = 0; i < chunks.length; i++) {
+            System.arraycopy(chunks[i], 0, days, offsets[i], chunks[i].length);
+        }
+        return days;
+    }
+
+    @NonNull
+    @Override
+    public Iterator<Long> iterator() {
+        return new Iterator<Long>() {
+            private int chunk;
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return chunk < chunks.length;
+            }
+
+            @Override
+            public Long next() {
+                if (chunk >= chunks.length) {
+                    throw new NoSuchElementException();
+                }
+                int day = chunks[chunk][index];
+                if (++index == chunks[chunk].length) {
+                    chunk++;
+                    index = 0;
+                }
+                return EpochDays.toTimeInMillis(day);
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EpochDaySet)) {
+            return super.equals(o);
+        }
+        EpochDaySet other = (EpochDaySet) o;
+        if (size() != other.size()) {
+            return false;
+        }
+        // Chunk boundaries depend on the edit history, so walk both sets day by day
+        int otherChunk = 0;
+        int otherIndex = 0;
+        for (int[] chunk : chunks) {
+            for (int day : chunk) {
+                if (other.chunks[otherChunk][otherIndex] != day) {
+                    return false;
+                }
+                if (++otherIndex == other.chunks[otherChunk].length) {
+                    otherChunk++;
+                    otherIndex = 0;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the epoch days as {@link Arrays#hashCode(int[])} does their sorted array, without
+     * converting them to timestamps. Consistent with {@link #equals} between day sets; unlike
+     * {@link AbstractSet#hashCode()} it does not match other {@code Set<Long>} implementations, so
+     * keep the two apart in hashed collections.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int[] chunk : chunks) {
+            for (int day : chunk) {
+                hash = 31 * hash + day;
+            }
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,31 @@
+package com.shalom.android.material.datepicker;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Conversions between timestamps and epoch days (days since 1970-01-01), the form every date is
+ * kept in internally. Timestamps are interpreted in {@link #TIME_ZONE}.
+ */
+public final class EpochDays {
+
+    /** The zone a timestamp's day is taken in. */
+    public static final ZoneId TIME_ZONE = ZoneId.systemDefault();
+
+    private EpochDays() {}
+
+    /**
+     * Converts a timestamp to the epoch day it falls on in {@link #TIME_ZONE}.
+     */
+    public static int fromTimeInMillis(long timeInMillis) {
+        return (int) Instant.ofEpochMilli(timeInMillis).atZone(TIME_ZONE).toLocalDate().toEpochDay();
+    }
+
+    /**
+     * Converts an epoch day to the timestamp of its start in {@link #TIME_ZONE}.
+     */
+    public static long toTimeInMillis(long epochDay) {
+        return LocalDate.ofEpochDay(epochDay).atStartOfDay(TIME_ZONE).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,336 @@
+package com.shalom.android.material.datepicker;
+
+import androidx.annotation.NonNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Compact binary encodings of Ethiopic dates and date sets, read and written directly on a
+ * {@link ByteBuffer}, heap or direct, at its current position.
+ *
+ * <p>Single dates are written either as a fixed {@value #PACKED_DATE_BYTES}-byte value holding
+ * the Ethiopic year, month and day, or as a zigzag varint of the epoch day, which takes at most
+ * three bytes for any date within a century of 1970. Date sets choose per set between sorted
+ * delta varints, best for scattered days, and a bitmap over their span, best for dense ones, and
+ * record the choice in a leading tag byte. Writing allocates nothing; reading allocates only the
+ * returned array.
+ *
+ * <p>The same encodings back the parcels of {@link EpochDaySet}-based selectors and interval
+ * validators, so a set shipped from a server decodes with the code the picker uses.
+ */
+public final class EthiopicDateCodec {
+
+    /** Size of a date written by {@link #putPackedDate}. */
+    public static final int PACKED_DATE_BYTES = 3;
+
+    /** Largest year a packed date can hold. */
+    public static final int MAX_PACKED_YEAR = (1 << 15) - 1;
+
+    private static final int FORMAT_DELTAS = 0;
+    private static final int FORMAT_BITMAP = 1;
+
+    private EthiopicDateCodec() {}
+
+    // Single dates
+
+    /**
+     * Writes {@code epochDay} as 3 bytes: 15 bits of Ethiopic year, 4 of month and 5 of day.
+     * Packed dates sort bytewise in date order.
+     *
+     * @throws IllegalArgumentException if the year is outside 0 to {@link #MAX_PACKED_YEAR}, that
+     *     is, for days before Ethiopic 0-01-01 (epoch day -716732)
+     */
+    public static void putPackedDate(@NonNull ByteBuffer out, int epochDay) {
+        int year = EthiopicDateConverter.epochDayToEthiopicYear(epochDay);
+        if (year < 0 || year > MAX_PACKED_YEAR) {
+            throw new IllegalArgumentException("Year out of packed range: " + year);
+        }
+        int dayOfYear = epochDay - EthiopicDateConverter.ethiopicToEpochDay(year, 1, 1);
+        int packed = (year << 9) | ((dayOfYear / 30 + 1) << 5) | (dayOfYear % 30 + 1);
+        out.put((byte) (packed >>> 16));
+        out.put((byte) (packed >>> 8));
+        out.put((byte) packed);
+    }
+
+    /**
+     * Reads a date written by {@link #putPackedDate} and returns its epoch day.
+     */
+    public static int getPackedDate(@NonNull ByteBuffer in) {
+        int packed = (in.get() & 0xFF) << 16 | (in.get() & 0xFF) << 8 | (in.get() & 0xFF);
+        return unpackDate(packed);
+    }
+
+    /**
+     * Reads the packed date at absolute {@code index} without moving the buffer's position, for
+     * random access into a table of fixed-size dates.
+     */
+    public static int getPackedDate(@NonNull ByteBuffer in, int index) {
+        int packed = (in.get(index) & 0xFF) << 16
+                | (in.get(index + 1) & 0xFF) << 8
+                | (in.get(index + 2) & 0xFF);
+        return unpackDate(packed);
+    }
+
+    private static int unpackDate(int packed) {
+        return EthiopicDateConverter.ethiopicToEpochDay(packed >>> 9, (packed >>> 5) & 0xF, packed & 0x1F);
+    }
+
+    /**
+     * Writes {@code epochDay} as a zigzag varint, 1 to 5 bytes.
+     */
+    public static void putVarintDate(@NonNull ByteBuffer out, int epochDay) {
+        Varints.write(out, Varints.zigzag(epochDay));
+    }
+
+    /**
+     * Reads a date written by {@link #putVarintDate} and returns its epoch day.
+     */
+    public static int getVarintDate(@NonNull ByteBuffer in) {
+        return Varints.unzigzag(Varints.read(in));
+    }
+
+    // Date sets
+
+    /**
+     * Returns the number of bytes {@link #putDays} writes for {@code sortedEpochDays}.
+     */
+    public static int encodedSize(@NonNull int[] sortedEpochDays) {
+        return 1 + Math.min(deltasSize(sortedEpochDays), bitmapSize(sortedEpochDays));
+    }
+
+    /**
+     * Writes strictly ascending epoch days as delta varints or as a bitmap, whichever is smaller.
+     *
+     * @throws IllegalArgumentException if the days are not strictly ascending
+     */
+    public static void putDays(@NonNull ByteBuffer out, @NonNull int[] sortedEpochDays) {
+        if (bitmapSize(sortedEpochDays) < deltasSize(sortedEpochDays)) {
+            out.put((byte) FORMAT_BITMAP);
+            putBitmap(out, sortedEpochDays);
+        } else {
+            out.put((byte) FORMAT_DELTAS);
+            putDeltas(out, sortedEpochDays);
+        }
+    }
+
+    /**
+     * Writes the days of {@code days}, see {@link #putDays(ByteBuffer, int[])}.
+     */
+    public static void putDays(@NonNull ByteBuffer out, @NonNull EpochDaySet days) {
+        putDays(out, days.epochDays());
+    }
+
+    /**
+     * Reads days written by {@link #putDays} in ascending order. The encoding is checked as it is
+     * read, so data from outside the app fails with an exception rather than allocating for a
+     * corrupt count.
+     *
+     * @throws IllegalArgumentException if the data is malformed
+     * @throws java.nio.BufferUnderflowException if the data is truncated
+     */
+    @NonNull
+    public static int[] getDays(@NonNull ByteBuffer in) {
+        int format = in.get();
+        switch (format) {
+            case FORMAT_DELTAS:
+                return getDeltas(in);
+            case FORMAT_BITMAP:
+                return getBitmap(in);
+            default:
+                throw new IllegalArgumentException("Unknown date set format: " + format);
+        }
+    }
+
+    /**
+     * Reads days written by {@link #putDays} as a set.
+     *
+     * @throws IllegalArgumentException if the data is malformed
+     */
+    @NonNull
+    public static EpochDaySet getDaySet(@NonNull ByteBuffer in) {
+        return EpochDaySet.wrapSorted(getDays(in));
+    }
+
+    // Count, first day, then the gap minus one to each following day
+    private static void putDeltas(ByteBuffer out, int[] days) {
+        Varints.write(out, days.length);
+        if (days.length == 0) {
+            return;
+        }
+        Varints.write(out, Varints.zigzag(days[0]));
+        for (int i = 1; i < days.length; i++) {
+            int gap = days[i] - days[i - 1];
+            if (gap <= 0) {
+                throw new IllegalArgumentException("Days are not strictly ascending");
+            }
+            Varints.write(out, gap - 1);
+        }
+    }
+
+    private static int[] getDeltas(ByteBuffer in) {
+        // Every day takes at least one byte
+        int[] days = new int[readCount(in, in.remaining())];
+        if (days.length > 0) {
+            days[0] = Varints.unzigzag(Varints.read(in));
+            for (int i = 1; i < days.length; i++) {
+                days[i] = days[i - 1] + Varints.read(in) + 1;
+                if (days[i] <= days[i - 1]) {
+                    throw new IllegalArgumentException("Day gap out of range at " + i);
+                }
+            }
+        }
+        return days;
+    }
+
+    // Count, first day and span, then one bit per day of the span
+    private static void putBitmap(ByteBuffer out, int[] days) {
+        int first = days[0];
+        Varints.write(out, days.length);
+        Varints.write(out, Varints.zigzag(first));
+        Varints.write(out, days[days.length - 1] - first);
+        int byteIndex = 0;
+        int current = 0;
+        int previous = first - 1;
+        for (int day : days) {
+            if (day <= previous) {
+                throw new IllegalArgumentException("Days are not strictly ascending");
+            }
+            previous = day;
+            int offset = day - first;
+            while (byteIndex < offset >>> 3) {
+                out.put((byte) current);
+                current = 0;
+                byteIndex++;
+            }
+            current |= 1 << (offset & 7);
+        }
+        out.put((byte) current);
+    }
+
+    private static int[] getBitmap(ByteBuffer in) {
+        int count = Varints.read(in);
+        int first = Varints.unzigzag(Varints.read(in));
+        int span = Varints.read(in);
+        if (span < 0 || first + span < first) {
+            throw new IllegalArgumentException("Bitmap span out of range: " + span);
+        }
+        int byteCount = (span >>> 3) + 1;
+        if (byteCount > in.remaining()) {
+            throw new IllegalArgumentException(
+                    "Bitmap of " + byteCount + " bytes, " + in.remaining() + " remaining");
+        }
+        // A bitmap holds at most one day per day of its span
+        checkCount(count, span + 1);
+        int[] days = new int[count];
+        count = 0;
+        for (int i = 0; i < byteCount; i++) {
+            int bits = in.get() & 0xFF;
+            while (bits != 0) {
+                int offset = (i << 3) + Integer.numberOfTrailingZeros(bits);
+                if (count == days.length || offset > span) {
+                    throw new IllegalArgumentException("Bitmap holds more days than its count or span");
+                }
+                days[count++] = first + offset;
+                bits &= bits - 1;
+            }
+        }
+        if (count != days.length) {
+            throw new IllegalArgumentException("Bitmap holds " + count + " days, expected " + days.length);
+        }
+        return days;
+    }
+
+    /** Reads a count, which must be at most {@code max}. */
+    private static int readCount(ByteBuffer in, int max) {
+        int count = Varints.read(in);
+        checkCount(count, max);
+        return count;
+    }
+
+    private static void checkCount(int count, int max) {
+        if (count < 0 || count > max) {
+            throw new IllegalArgumentException("Count out of range: " + Integer.toUnsignedString(count));
+        }
+    }
+
+    private static int deltasSize(int[] days) {
+        int size = Varints.size(days.length);
+        if (days.length > 0) {
+            size += Varints.size(Varints.zigzag(days[0]));
+            for (int i = 1; i < days.length; i++) {
+                size += Varints.size(days[i] - days[i - 1] - 1);
+            }
+        }
+        return size;
+    }
+
+    private static int bitmapSize(int[] days) {
+        if (days.length == 0) {
+            return Integer.MAX_VALUE;
+        }
+        int span = days[days.length - 1] - days[0];
+        return Varints.size(days.length) + Varints.size(Varints.zigzag(days[0]))
+                + Varints.size(span) + (span >>> 3) + 1;
+    }
+
+    // Day ranges
+
+    /**
+     * Returns the number of bytes {@link #putRanges} writes for {@code ranges}.
+     */
+    public static int encodedSize(@NonNull DayRanges ranges) {
+        int count = ranges.getRangeCount();
+        int size = Varints.size(count);
+        for (int i = 0; i < count; i++) {
+            int start = ranges.getStart(i);
+            size += i == 0
+                    ? Varints.size(Varints.zigzag(start))
+                    : Varints.size(start - ranges.getEnd(i - 1) - 2);
+            size += Varints.size(ranges.getEnd(i) - start);
+        }
+        return size;
+    }
+
+    /**
+     * Writes merged day ranges as the first start, then alternating varints of the gap from the
+     * previous range and the range length.
+     */
+    public static void putRanges(@NonNull ByteBuffer out, @NonNull DayRanges ranges) {
+        int count = ranges.getRangeCount();
+        Varints.write(out, count);
+        for (int i = 0; i < count; i++) {
+            int start = ranges.getStart(i);
+            if (i == 0) {
+                Varints.write(out, Varints.zigzag(start));
+            } else {
+                // Merged ranges are at least one day apart
+                Varints.write(out, start - ranges.getEnd(i - 1) - 2);
+            }
+            Varints.write(out, ranges.getEnd(i) - start);
+        }
+    }
+
+    /**
+     * Reads ranges written by {@link #putRanges}.
+     *
+     * @throws IllegalArgumentException if the data is malformed
+     * @throws java.nio.BufferUnderflowException if the data is truncated
+     */
+    @NonNull
+    public static DayRanges getRanges(@NonNull ByteBuffer in) {
+        // Every range takes at least two bytes
+        int count = readCount(in, in.remaining() / 2);
+        int[] starts = new int[count];
+        int[] ends = new int[count];
+        for (int i = 0; i < count; i++) {
+            starts[i] = i == 0
+                    ? Varints.unzigzag(Varints.read(in))
+                    : ends[i - 1] + Varints.read(in) + 2;
+            ends[i] = starts[i] + Varints.read(in);
+            if (ends[i] < starts[i] || (i > 0 && starts[i] <= (long) ends[i - 1] + 1)) {
+                throw new IllegalArgumentException("Range out of order at " + i);
+            }
+        }
+        return DayRanges.wrap(starts, ends);
+    }
+}
@@ -19,13 +19,11 @@ import java.util.GregorianCalendar;
  */
 public class EthiopicDateConverter {
 
-    private static final String[] ETHIOPIC_MONTH_NAMES = {
-            "Meskerem", "Tikimt", "Hidar", "Tahsas", "Tir", "Yekatit",
-            "Megabit", "Miazia", "Ginbot", "Sene", "Hamle", "Nehase", "Pagume"
-    };
-
     private static final int ETHIOPIC_EPOCH_OFFSET_DAYS = 2796; // Days between Gregorian and Ethiopic epoch
 
+    private static final int JDN_UNIX_EPOCH = 2440588; // Julian Day Number of 1970-01-01
+    private static final int JDN_ETHIOPIC_OFFSET = 1723856;
+
     /**
      * Represents an Ethiopic date.
      */
@@ -42,7 +40,7 @@ public class EthiopicDateConverter {
 
         public String getMonthName() {
             if (month >= 1 && month <= 13) {
-                return ETHIOPIC_MONTH_NAMES[month - 1];
+                return CalendarLabels.current().getMonthName(month);
             }
             return "";
         }
@@ -102,6 +100,68 @@ public class EthiopicDateConverter {
         return calendar.getTimeInMillis();
     }
 
+    /**
+     * Converts an Ethiopic date to an epoch day (days since 1970-01-01).
+     */
+    public static int ethiopicToEpochDay(int ethYear, int ethMonth, int ethDay) {
+        return ethiopicToJDN(ethYear, ethMonth, ethDay) - JDN_UNIX_EPOCH;
+    }
+
+    /**
+     * Converts an epoch day (days since 1970-01-01) to an Ethiopic date.
+     */
+    public static EthiopicDate epochDayToEthiopic(int epochDay) {
+        return jdnToEthiopic(epochDay + JDN_UNIX_EPOCH);
+    }
+
+    /**
+     * Returns the Ethiopic year containing the given epoch day.
+     */
+    public static int epochDayToEthiopicYear(int epochDay) {
+        int days = epochDay + JDN_UNIX_EPOCH - JDN_ETHIOPIC_OFFSET;
+        int r = Math.floorMod(days, 1461);
+        return 4 * Math.floorDiv(days, 1461) + r / 365 - r / 1460;
+    }
+
+    /**
+     * Returns the ISO day of week (1 = Monday ... 7 = Sunday) of the given epoch day.
+     */
+    public static int dayOfWeek(int epochDay) {
+        return Math.floorMod(epochDay + 3, 7) + 1;
+    }
+
+    /**
+     * Appends an epoch day as an Ethiopic date (e.g. "Meskerem 5, 2017") without creating
+     * intermediate date objects. Month names come from {@link CalendarLabels#current()}.
+     */
+    public static StringBuilder appendEpochDay(@NonNull StringBuilder out, int epochDay) {
+        return appendEpochDay(out, epochDay, CalendarLabels.current());
+    }
+
+    /**
+     * Appends an epoch day as an Ethiopic date, with the month named from {@code labels}.
+     */
+    public static StringBuilder appendEpochDay(
+            @NonNull StringBuilder out, int epochDay, @NonNull CalendarLabels labels) {
+        int year = epochDayToEthiopicYear(epochDay);
+        int dayOfYear = epochDay - ethiopicToEpochDay(year, 1, 1);
+        return out.append(labels.getMonthName(dayOfYear / 30 + 1))
+                .append(' ')
+                .append(dayOfYear % 30 + 1)
+                .append(", ")
+                .append(year);
+    }
+
+    /**
+     * Converts a timestamp to the date and hour on the Ethiopian clock, where the day begins at
+     * 6:00, in {@link EpochDays#TIME_ZONE}. See {@link EthiopicDateTime#pack(long, int)} for the
+     * allocation-free form.
+     */
+    @NonNull
+    public static EthiopicDateTime toEthiopicDateTime(long timeInMillis) {
+        return EthiopicDateTime.ofEpochMilli(timeInMillis, EpochDays.TIME_ZONE);
+    }
+
     /**
      * Calculate Julian Day Number from Gregorian date.
      */
@@ -131,7 +191,7 @@ public class EthiopicDateConverter {
      * Calculate Julian Day Number from Ethiopic date.
      */
     private static int ethiopicToJDN(int year, int month, int day) {
-        return (1723856 + 365) + 365 * (year - 1) + year / 4 + 30 * month + day - 31;
+        return (1723856 + 365) + 365 * (year - 1) + Math.floorDiv(year, 4) + 30 * month + day - 31;
     }
 
     /**
@@ -173,9 +233,16 @@ public class EthiopicDateConverter {
     }
 
     /**
-     * Gets all Ethiopic month names.
+     * Gets the number of days in an Ethiopic year.
+     */
+    public static int getEthiopicYearDays(int year) {
+        return isEthiopicLeapYear(year) ? 366 : 365;
+    }
+
+    /**
+     * Gets all Ethiopic month names from {@link CalendarLabels#current()}.
      */
     public static String[] getMonthNames() {
-        return ETHIOPIC_MONTH_NAMES.clone();
+        return CalendarLabels.current().monthNames().clone();
     }
 }
@@ -0,0 +1,185 @@
+package com.shalom.android.material.datepicker;
+
+import androidx.annotation.NonNull;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+
+/**
+ * A timestamp on the Ethiopian clock: the Ethiopic date and the hour counted from dawn or dusk.
+ *
+ * <p>The Ethiopian day starts at 6:00 local time, so 7:00 is 1 o'clock of the day and 5:00 the
+ * next morning is 11 o'clock of the night. A time before 6:00 still belongs to the previous
+ * Ethiopic date; the date of an {@code EthiopicDateTime} follows that rule and can differ from
+ * {@link EthiopicLocalDate#ofTimeInMillis(long)} in the early morning.
+ *
+ * <p>For bulk work such as log ingestion, {@link #pack(long, int)} converts a timestamp into a
+ * single {@code long} holding the epoch day and the milliseconds since dawn, read back with the
+ * static {@code packed...} accessors and formatted with {@link #appendPacked}. None of these
+ * allocate.
+ */
+public final class EthiopicDateTime {
+
+    /** Offset of East Africa Time, UTC+3, used in Ethiopia all year. */
+    public static final int EAST_AFRICA_OFFSET_SECONDS = 3 * 60 * 60;
+
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+    private static final int MILLIS_PER_HOUR = 60 * 60 * 1000;
+    private static final int MILLIS_PER_MINUTE = 60 * 1000;
+    /** Civil time at which the Ethiopian day begins. */
+    private static final int DAWN_MILLIS = 6 * MILLIS_PER_HOUR;
+
+    private final long packed;
+
+    private EthiopicDateTime(long packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * Returns the Ethiopian date and time of {@code timeInMillis} at a fixed UTC offset.
+     */
+    @NonNull
+    public static EthiopicDateTime ofEpochMilli(long timeInMillis, int offsetSeconds) {
+        return new EthiopicDateTime(pack(timeInMillis, offsetSeconds));
+    }
+
+    /**
+     * Returns the Ethiopian date and time of {@code timeInMillis} in {@code zone}.
+     */
+    @NonNull
+    public static EthiopicDateTime ofEpochMilli(long timeInMillis, @NonNull ZoneId zone) {
+        return new EthiopicDateTime(pack(timeInMillis, zone));
+    }
+
+    /**
+     * Returns the date and time held by a value from {@link #pack}.
+     */
+    @NonNull
+    public static EthiopicDateTime ofPacked(long packed) {
+        return new EthiopicDateTime(packed);
+    }
+
+    // Packed form
+
+    /**
+     * Converts {@code timeInMillis} at a fixed UTC offset into the packed form: the Ethiopian
+     * day's epoch day in the high 32 bits and the milliseconds since its dawn in the low 32.
+     */
+    public static long pack(long timeInMillis, int offsetSeconds) {
+        long sinceEpochDawn = timeInMillis + offsetSeconds * 1000L - DAWN_MILLIS;
+        long epochDay = Math.floorDiv(sinceEpochDawn, MILLIS_PER_DAY);
+        long sinceDawn = Math.floorMod(sinceEpochDawn, MILLIS_PER_DAY);
+        return epochDay << 32 | sinceDawn;
+    }
+
+    /**
+     * Converts {@code timeInMillis} in {@code zone} into the packed form. Zones with a fixed
+     * offset, such as {@code Africa/Addis_Ababa}, take the same arithmetic as
+     * {@link #pack(long, int)}.
+     */
+    public static long pack(long timeInMillis, @NonNull ZoneId zone) {
+        ZoneRules rules = zone.getRules();
+        int offsetSeconds = rules.isFixedOffset()
+                ? rules.getOffset(Instant.EPOCH).getTotalSeconds()
+                : rules.getOffset(Instant.ofEpochMilli(timeInMillis)).getTotalSeconds();
+        return pack(timeInMillis, offsetSeconds);
+    }
+
+    /** Returns the epoch day of the Ethiopian day of a packed value. */
+    public static int packedEpochDay(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    /** Returns the milliseconds since dawn, 6:00, of a packed value. */
+    public static int packedMillisSinceDawn(long packed) {
+        return (int) packed;
+    }
+
+    /** Returns the Ethiopian clock hour of a packed value, 1 to 12. */
+    public static int packedHour(long packed) {
+        int hour = (packedMillisSinceDawn(packed) / MILLIS_PER_HOUR) % 12;
+        return hour == 0 ? 12 : hour;
+    }
+
+    /** Returns the minute of a packed value, 0 to 59. */
+    public static int packedMinute(long packed) {
+        return (packedMillisSinceDawn(packed) / MILLIS_PER_MINUTE) % 60;
+    }
+
+    /** Returns the second of a packed value, 0 to 59. */
+    public static int packedSecond(long packed) {
+        return (packedMillisSinceDawn(packed) / 1000) % 60;
+    }
+
+    /** Returns true if a packed value falls in the 12 hours from dusk, 18:00 to 6:00. */
+    public static boolean packedIsNight(long packed) {
+        return packedMillisSinceDawn(packed) >= 12 * MILLIS_PER_HOUR;
+    }
+
+    /**
+     * Appends a packed value as e.g. "Meskerem 5, 2017 1:30 day", with names from
+     * {@link CalendarLabels#current()}.
+     */
+    @NonNull
+    public static StringBuilder appendPacked(@NonNull StringBuilder out, long packed) {
+        EthiopicDateConverter.appendEpochDay(out, packedEpochDay(packed)).append(' ');
+        int minute = packedMinute(packed);
+        out.append(packedHour(packed)).append(':');
+        if (minute < 10) {
+            out.append('0');
+        }
+        return out.append(minute)
+                .append(' ')
+                .append(CalendarLabels.current().getDayPeriodName(packedIsNight(packed)));
+    }
+
+    // Object form
+
+    /** Returns the Ethiopic date, taking the day to start at 6:00. */
+    @NonNull
+    public EthiopicLocalDate getDate() {
+        return EthiopicLocalDate.ofEpochDay(packedEpochDay(packed));
+    }
+
+    /** Returns the Ethiopian clock hour, 1 to 12. */
+    public int getHour() {
+        return packedHour(packed);
+    }
+
+    public int getMinute() {
+        return packedMinute(packed);
+    }
+
+    public int getSecond() {
+        return packedSecond(packed);
+    }
+
+    /** Returns true for the 12 hours from dusk, 18:00 to 6:00. */
+    public boolean isNight() {
+        return packedIsNight(packed);
+    }
+
+    /** Returns the packed form of this date and time. */
+    public long toPacked() {
+        return packed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EthiopicDateTime)) return false;
+        return packed == ((EthiopicDateTime) o).packed;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(packed);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return appendPacked(new StringBuilder(32), packed).toString();
+    }
+}
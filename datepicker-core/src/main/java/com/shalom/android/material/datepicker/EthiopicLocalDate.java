@@ -0,0 +1,241 @@
+package com.shalom.android.material.datepicker;
+
+import androidx.annotation.NonNull;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.Chronology;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * An immutable date in the Ethiopic calendar, backed by a single epoch day.
+ *
+ * <p>This covers what the picker needs, built on the arithmetic in
+ * {@link EthiopicDateConverter}, without the field validation and class loading of a general
+ * {@code java.time} chronology. Code that works with the {@link Chronology} API can convert with
+ * {@link #from(TemporalAccessor)} and {@link #toChronoLocalDate(Chronology)}, for example passing
+ * threeten-extra's {@code EthiopicChronology.INSTANCE}.
+ */
+public final class EthiopicLocalDate implements Comparable<EthiopicLocalDate> {
+
+    private static final int MONTHS_PER_YEAR = 13;
+
+    private final int year;
+    private final int month;
+    private final int day;
+    private final int epochDay;
+
+    private EthiopicLocalDate(int year, int month, int day, int epochDay) {
+        this.year = year;
+        this.month = month;
+        this.day = day;
+        this.epochDay = epochDay;
+    }
+
+    /**
+     * Returns the date for {@code year}, {@code month} (1 to 13) and {@code day}.
+     *
+     * @throws IllegalArgumentException if the month or day does not exist in that year
+     */
+    @NonNull
+    public static EthiopicLocalDate of(int year, int month, int day) {
+        if (month < 1 || month > MONTHS_PER_YEAR
+                || day < 1 || day > EthiopicDateConverter.getEthiopicMonthDays(year, month)) {
+            throw new IllegalArgumentException(
+                    "Invalid Ethiopic date: " + year + "-" + month + "-" + day);
+        }
+        return new EthiopicLocalDate(year, month, day,
+                EthiopicDateConverter.ethiopicToEpochDay(year, month, day));
+    }
+
+    /**
+     * Returns the date of {@code epochDay}, the number of days since 1970-01-01.
+     */
+    @NonNull
+    public static EthiopicLocalDate ofEpochDay(long epochDay) {
+        int days = Math.toIntExact(epochDay);
+        int year = EthiopicDateConverter.epochDayToEthiopicYear(days);
+        int dayOfYear = days - EthiopicDateConverter.ethiopicToEpochDay(year, 1, 1);
+        return new EthiopicLocalDate(year, dayOfYear / 30 + 1, dayOfYear % 30 + 1, days);
+    }
+
+    /**
+     * Returns the date a timestamp falls on in {@link EpochDays#TIME_ZONE}.
+     */
+    @NonNull
+    public static EthiopicLocalDate ofTimeInMillis(long timeInMillis) {
+        return ofEpochDay(EpochDays.fromTimeInMillis(timeInMillis));
+    }
+
+    /**
+     * Returns today's date in {@code zone}.
+     */
+    @NonNull
+    public static EthiopicLocalDate now(@NonNull ZoneId zone) {
+        return ofEpochDay(LocalDate.now(zone).toEpochDay());
+    }
+
+    /**
+     * Returns the date of any temporal that knows its epoch day, such as a {@link LocalDate} or a
+     * {@link ChronoLocalDate} of another chronology.
+     */
+    @NonNull
+    public static EthiopicLocalDate from(@NonNull TemporalAccessor temporal) {
+        return ofEpochDay(temporal.getLong(ChronoField.EPOCH_DAY));
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    /** Returns the month, 1 (Meskerem) to 13 (Pagume). */
+    public int getMonth() {
+        return month;
+    }
+
+    public int getDayOfMonth() {
+        return day;
+    }
+
+    /** Returns the day of the year, 1 to 365 or 366. */
+    public int getDayOfYear() {
+        return (month - 1) * 30 + day;
+    }
+
+    /** Returns the ISO day of week, 1 (Monday) to 7 (Sunday). */
+    public int getDayOfWeek() {
+        return EthiopicDateConverter.dayOfWeek(epochDay);
+    }
+
+    public boolean isLeapYear() {
+        return EthiopicDateConverter.isEthiopicLeapYear(year);
+    }
+
+    /** Returns the number of days in this date's month: 30, or 5 or 6 for Pagume. */
+    public int lengthOfMonth() {
+        return EthiopicDateConverter.getEthiopicMonthDays(year, month);
+    }
+
+    public int lengthOfYear() {
+        return EthiopicDateConverter.getEthiopicYearDays(year);
+    }
+
+    /** Returns the number of days since 1970-01-01. */
+    public int toEpochDay() {
+        return epochDay;
+    }
+
+    @NonNull
+    public EthiopicLocalDate plusDays(long days) {
+        return days == 0 ? this : ofEpochDay(epochDay + days);
+    }
+
+    /**
+     * Returns this date moved by {@code months}. The day is clamped to the length of the target
+     * month, so the 30th moved into Pagume becomes its last day.
+     */
+    @NonNull
+    public EthiopicLocalDate plusMonths(long months) {
+        if (months == 0) {
+            return this;
+        }
+        long index = (long) year * MONTHS_PER_YEAR + (month - 1) + months;
+        int newYear = Math.toIntExact(Math.floorDiv(index, MONTHS_PER_YEAR));
+        int newMonth = Math.floorMod(index, MONTHS_PER_YEAR) + 1;
+        int newDay = Math.min(day, EthiopicDateConverter.getEthiopicMonthDays(newYear, newMonth));
+        return of(newYear, newMonth, newDay);
+    }
+
+    @NonNull
+    public EthiopicLocalDate plusYears(long years) {
+        return plusMonths(years * MONTHS_PER_YEAR);
+    }
+
+    /**
+     * Returns this date with the day of month changed, clamped to the length of the month.
+     */
+    @NonNull
+    public EthiopicLocalDate withDayOfMonth(int dayOfMonth) {
+        return dayOfMonth == day ? this : of(year, month, Math.min(dayOfMonth, lengthOfMonth()));
+    }
+
+    /**
+     * Returns the number of whole months from this date to {@code end}, negative if {@code end}
+     * is earlier. A month is only counted once its day of month is reached, as in
+     * {@code java.time}.
+     */
+    public long monthsUntil(@NonNull EthiopicLocalDate end) {
+        long months = (end.year - (long) year) * MONTHS_PER_YEAR + (end.month - month);
+        if (months > 0 && end.day < day) {
+            months--;
+        } else if (months < 0 && end.day > day) {
+            months++;
+        }
+        return months;
+    }
+
+    /**
+     * Returns the number of days from this date to {@code end}, negative if {@code end} is
+     * earlier.
+     */
+    public long daysUntil(@NonNull EthiopicLocalDate end) {
+        return (long) end.epochDay - epochDay;
+    }
+
+    /**
+     * Returns the same day as an ISO {@link LocalDate}.
+     */
+    @NonNull
+    public LocalDate toLocalDate() {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Returns the same day as a date of {@code chronology}.
+     */
+    @NonNull
+    public ChronoLocalDate toChronoLocalDate(@NonNull Chronology chronology) {
+        return chronology.dateEpochDay(epochDay);
+    }
+
+    @Override
+    public int compareTo(@NonNull EthiopicLocalDate other) {
+        return Integer.compare(epochDay, other.epochDay);
+    }
+
+    public boolean isBefore(@NonNull EthiopicLocalDate other) {
+        return epochDay < other.epochDay;
+    }
+
+    public boolean isAfter(@NonNull EthiopicLocalDate other) {
+        return epochDay > other.epochDay;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EthiopicLocalDate)) return false;
+        return epochDay == ((EthiopicLocalDate) o).epochDay;
+    }
+
+    @Override
+    public int hashCode() {
+        return epochDay;
+    }
+
+    /**
+     * Returns the date as {@code yyyy-MM-dd} in Ethiopic fields, e.g. "2017-01-05".
+     */
+    @NonNull
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder(10);
+        out.append(year).append('-');
+        if (month < 10) out.append('0');
+        out.append(month).append('-');
+        if (day < 10) out.append('0');
+        return out.append(day).toString();
+    }
+}
@@ -0,0 +1,264 @@
+package com.shalom.android.material.datepicker;
+
+import androidx.annotation.NonNull;
+
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A rule for an event repeating in Ethiopic terms, such as "every 12th of the month", "annually
+ * on Meskerem 17", "the last day of Pagume" or "the second Sunday of Tir".
+ *
+ * <p>Occurrences are computed month by month from the rule, never by testing each day: finding
+ * the next one looks at the next few candidate months at most, so a window is expanded in time
+ * proportional to the occurrences inside it. Pagume's 5 or 6 days are taken into account; a month
+ * without the requested day, such as the 12th of Pagume, is skipped.
+ *
+ * <pre>
+ * EthiopicRecurrence meskel = EthiopicRecurrence.yearly(1, 17);
+ * PrimitiveIterator.OfInt days = meskel.occurrences(fromEpochDay, toEpochDay);
+ * </pre>
+ */
+public final class EthiopicRecurrence {
+
+    private static final int MONTHS_PER_YEAR = 13;
+
+    /** Years after which dates fall on the same weekdays again: 7 leap cycles of 4 years. */
+    private static final int CYCLE_YEARS = 28;
+
+    /** Every month, or only {@link #month} of every year. */
+    private static final int EVERY_MONTH = 0;
+
+    private static final int KIND_DAY = 1;
+    private static final int KIND_LAST_DAY = 2;
+    private static final int KIND_NTH_WEEKDAY = 3;
+
+    /**
+     * Result of {@link #occurrenceIn} for a month without an occurrence, and of
+     * {@link #nextOnOrAfter} for a rule that never occurs.
+     */
+    private static final int NONE = Integer.MIN_VALUE;
+
+    private final int month;
+    private final int kind;
+    private final int day;
+    private final int ordinal;
+    private final int dayOfWeek;
+
+    private EthiopicRecurrence(int month, int kind, int day, int ordinal, int dayOfWeek) {
+        this.month = month;
+        this.kind = kind;
+        this.day = day;
+        this.ordinal = ordinal;
+        this.dayOfWeek = dayOfWeek;
+    }
+
+    /**
+     * Every month on day {@code day}, 1 to 30. Pagume is skipped when it is shorter.
+     */
+    @NonNull
+    public static EthiopicRecurrence monthly(int day) {
+        checkDay(day);
+        return new EthiopicRecurrence(EVERY_MONTH, KIND_DAY, day, 0, 0);
+    }
+
+    /**
+     * Every year on {@code month} and {@code day}. Pagume 6 only occurs in leap years.
+     */
+    @NonNull
+    public static EthiopicRecurrence yearly(int month, int day) {
+        checkMonth(month);
+        checkDay(day);
+        if (month == MONTHS_PER_YEAR && day > 6) {
+            throw new IllegalArgumentException("Pagume has at most 6 days: " + day);
+        }
+        return new EthiopicRecurrence(month, KIND_DAY, day, 0, 0);
+    }
+
+    /**
+     * The last day of every month: the 30th, or the 5th or 6th of Pagume.
+     */
+    @NonNull
+    public static EthiopicRecurrence lastDayOfMonth() {
+        return new EthiopicRecurrence(EVERY_MONTH, KIND_LAST_DAY, 0, 0, 0);
+    }
+
+    /**
+     * The last day of {@code month} every year, e.g. 13 for the last day of Pagume.
+     */
+    @NonNull
+    public static EthiopicRecurrence lastDayOfMonth(int month) {
+        checkMonth(month);
+        return new EthiopicRecurrence(month, KIND_LAST_DAY, 0, 0, 0);
+    }
+
+    /**
+     * The {@code ordinal}-th {@code dayOfWeek} of every month, counting from the end when
+     * negative: 2 for the second, -1 for the last. Months without it, as Pagume may be, are
+     * skipped.
+     *
+     * @param dayOfWeek ISO day of week, 1 (Monday) to 7 (Sunday)
+     */
+    @NonNull
+    public static EthiopicRecurrence monthlyOnWeekday(int ordinal, int dayOfWeek) {
+        checkWeekday(ordinal, dayOfWeek);
+        return new EthiopicRecurrence(EVERY_MONTH, KIND_NTH_WEEKDAY, 0, ordinal, dayOfWeek);
+    }
+
+    /**
+     * The {@code ordinal}-th {@code dayOfWeek} of {@code month} every year, e.g. the second
+     * Sunday of Tir. Pagume is shorter than a week, so for month 13 the ordinal must be 1 or -1.
+     *
+     * @see #monthlyOnWeekday(int, int)
+     */
+    @NonNull
+    public static EthiopicRecurrence yearlyOnWeekday(int month, int ordinal, int dayOfWeek) {
+        checkMonth(month);
+        checkWeekday(ordinal, dayOfWeek);
+        if (month == MONTHS_PER_YEAR && ordinal != 1 && ordinal != -1) {
+            throw new IllegalArgumentException("Pagume has each weekday at most once: " + ordinal);
+        }
+        return new EthiopicRecurrence(month, KIND_NTH_WEEKDAY, 0, ordinal, dayOfWeek);
+    }
+
+    private static void checkMonth(int month) {
+        if (month < 1 || month > MONTHS_PER_YEAR) {
+            throw new IllegalArgumentException("Invalid Ethiopic month: " + month);
+        }
+    }
+
+    private static void checkDay(int day) {
+        if (day < 1 || day > 30) {
+            throw new IllegalArgumentException("Invalid day of month: " + day);
+        }
+    }
+
+    private static void checkWeekday(int ordinal, int dayOfWeek) {
+        if (ordinal == 0 || ordinal < -5 || ordinal > 5) {
+            throw new IllegalArgumentException("Invalid ordinal: " + ordinal);
+        }
+        if (dayOfWeek < 1 || dayOfWeek > 7) {
+            throw new IllegalArgumentException("Invalid day of week: " + dayOfWeek);
+        }
+    }
+
+    /**
+     * Returns the first occurrence on or after {@code epochDay}, or {@link Integer#MIN_VALUE} if
+     * the rule has none in a whole weekday cycle and so never occurs.
+     */
+    public int nextOnOrAfter(int epochDay) {
+        int year = EthiopicDateConverter.epochDayToEthiopicYear(epochDay);
+        int dayOfYear = epochDay - EthiopicDateConverter.ethiopicToEpochDay(year, 1, 1);
+        int currentMonth = dayOfYear / 30 + 1;
+
+        if (month != EVERY_MONTH) {
+            // Yearly rules only look at their own month, starting this year or the next
+            if (currentMonth > month) {
+                year++;
+            }
+            for (int end = year + CYCLE_YEARS; year <= end; year++) {
+                int occurrence = occurrenceIn(year, month);
+                if (occurrence != NONE && occurrence >= epochDay) {
+                    return occurrence;
+                }
+            }
+            return NONE;
+        }
+
+        for (int end = year + CYCLE_YEARS; year <= end; ) {
+            int occurrence = occurrenceIn(year, currentMonth);
+            if (occurrence != NONE && occurrence >= epochDay) {
+                return occurrence;
+            }
+            if (++currentMonth > MONTHS_PER_YEAR) {
+                currentMonth = 1;
+                year++;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Returns the occurrences from {@code startEpochDay} to {@code endEpochDay}, inclusive, in
+     * ascending order. Each is computed only when the iterator is advanced to it.
+     */
+    @NonNull
+    public PrimitiveIterator.OfInt occurrences(int startEpochDay, int endEpochDay) {
+        return new PrimitiveIterator.OfInt() {
+            private int next = startEpochDay <= endEpochDay ? nextOnOrAfter(startEpochDay) : NONE;
+
+            @Override
+            public boolean hasNext() {
+                return next != NONE && next <= endEpochDay;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int current = next;
+                next = current < endEpochDay ? nextOnOrAfter(current + 1) : NONE;
+                return current;
+            }
+        };
+    }
+
+    /**
+     * Sets bit {@code i} of {@code out} for every occurrence on day {@code startEpochDay + i},
+     * for {@code i} below {@code count}. Other bits are left untouched, so several rules can mark
+     * the same month.
+     */
+    public void mark(int startEpochDay, int count, @NonNull BitSet out) {
+        int end = startEpochDay + count - 1;
+        for (int day = nextOnOrAfter(startEpochDay); day != NONE && day <= end;
+                day = nextOnOrAfter(day + 1)) {
+            out.set(day - startEpochDay);
+        }
+    }
+
+    /**
+     * Returns the epoch day of the occurrence in {@code month} of {@code year}, or {@link #NONE}.
+     */
+    private int occurrenceIn(int year, int month) {
+        int length = EthiopicDateConverter.getEthiopicMonthDays(year, month);
+        int start = EthiopicDateConverter.ethiopicToEpochDay(year, month, 1);
+        switch (kind) {
+            case KIND_DAY:
+                return day <= length ? start + day - 1 : NONE;
+            case KIND_LAST_DAY:
+                return start + length - 1;
+            default:
+                int offset;
+                if (ordinal > 0) {
+                    offset = Math.floorMod(dayOfWeek - EthiopicDateConverter.dayOfWeek(start), 7)
+                            + 7 * (ordinal - 1);
+                } else {
+                    int last = start + length - 1;
+                    offset = length - 1
+                            - Math.floorMod(EthiopicDateConverter.dayOfWeek(last) - dayOfWeek, 7)
+                            - 7 * (-ordinal - 1);
+                }
+                return offset >= 0 && offset < length ? start + offset : NONE;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EthiopicRecurrence)) return false;
+        EthiopicRecurrence other = (EthiopicRecurrence) o;
+        return month == other.month && kind == other.kind && day == other.day
+                && ordinal == other.ordinal && dayOfWeek == other.dayOfWeek;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = month;
+        result = 31 * result + kind;
+        result = 31 * result + day;
+        result = 31 * result + ordinal;
+        return 31 * result + dayOfWeek;
+    }
+}
@@ -0,0 +1,217 @@
+package com.shalom.android.material.datepicker;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * The days that entered and left a selection in one change.
+ *
+ * <p>Both sides are kept as sorted ranges of epoch days, so moving the end of a range selection
+ * across years costs the same as moving it by a day. {@link #getAddedDays()} and
+ * {@link #getRemovedDays()} list every day and are only built when asked for.
+ */
+public final class SelectionDelta {
+
+    private static final int[] EMPTY_DAYS = new int[0];
+
+    /** A change that left the selection as it was. */
+    public static final SelectionDelta NONE = new SelectionDelta(DayRanges.empty(), DayRanges.empty());
+
+    @NonNull private final DayRanges addedRanges;
+    @NonNull private final DayRanges removedRanges;
+    @Nullable private int[] addedDays;
+    @Nullable private int[] removedDays;
+
+    private SelectionDelta(@NonNull DayRanges addedRanges, @NonNull DayRanges removedRanges) {
+        this.addedRanges = addedRanges;
+        this.removedRanges = removedRanges;
+    }
+
+    /**
+     * Creates a delta from sorted arrays of added and removed epoch days. The arrays are not
+     * copied.
+     */
+    @NonNull
+    public static SelectionDelta of(@NonNull int[] addedDays, @NonNull int[] removedDays) {
+        if (addedDays.length == 0 && removedDays.length == 0) {
+            return NONE;
+        }
+        SelectionDelta delta = new SelectionDelta(toRanges(addedDays), toRanges(removedDays));
+        delta.addedDays = addedDays;
+        delta.removedDays = removedDays;
+        return delta;
+    }
+
+    /** Creates a delta for a single day being added. */
+    @NonNull
+    public static SelectionDelta added(int epochDay) {
+        return of(new int[] {epochDay}, EMPTY_DAYS);
+    }
+
+    /** Creates a delta for a single day being removed. */
+    @NonNull
+    public static SelectionDelta removed(int epochDay) {
+        return of(EMPTY_DAYS, new int[] {epochDay});
+    }
+
+    /**
+     * Computes the delta between two sorted, duplicate-free arrays of epoch days.
+     */
+    @NonNull
+    public static SelectionDelta between(@NonNull int[] before, @NonNull int[] after) {
+        int[] added = new int[after.length];
+        int[] removed = new int[before.length];
+        int addedCount = 0;
+        int removedCount = 0;
+        int i = 0;
+        int j = 0;
+        while (i < before.length || j < after.length) {
+            if (j >= after.length || (i < before.length && before[i] < after[j])) {
+                removed[removedCount++] = before[i++];
+            } else if (i >= before.length || after[j] < before[i]) {
+                added[addedCount++] = after[j++];
+            } else {
+                i++;
+                j++;
+            }
+        }
+        return of(Arrays.copyOf(added, addedCount), Arrays.copyOf(removed, removedCount));
+    }
+
+    /**
+     * Computes the delta between two inclusive epoch day ranges. An empty range is passed as
+     * {@code start > end}.
+     */
+    @NonNull
+    public static SelectionDelta betweenRanges(int beforeStart, int beforeEnd, int afterStart, int afterEnd) {
+        DayRanges added = rangeMinus(afterStart, afterEnd, beforeStart, beforeEnd);
+        DayRanges removed = rangeMinus(beforeStart, beforeEnd, afterStart, afterEnd);
+        if (added.getRangeCount() == 0 && removed.getRangeCount() == 0) {
+            return NONE;
+        }
+        return new SelectionDelta(added, removed);
+    }
+
+    /** Days in [start, end] that are not in [otherStart, otherEnd], as at most two ranges. */
+    @NonNull
+    private static DayRanges rangeMinus(int start, int end, int otherStart, int otherEnd) {
+        if (start > end) {
+            return DayRanges.empty();
+        }
+        if (otherStart > otherEnd || otherEnd < start || otherStart > end) {
+            // No overlap, nothing to subtract
+            return DayRanges.wrap(new int[] {start}, new int[] {end});
+        }
+        boolean hasHead = start < otherStart;
+        boolean hasTail = end > otherEnd;
+        if (hasHead && hasTail) {
+            return DayRanges.wrap(new int[] {start, otherEnd + 1}, new int[] {otherStart - 1, end});
+        } else if (hasHead) {
+            return DayRanges.wrap(new int[] {start}, new int[] {otherStart - 1});
+        } else if (hasTail) {
+            return DayRanges.wrap(new int[] {otherEnd + 1}, new int[] {end});
+        }
+        return DayRanges.empty();
+    }
+
+    /** Merges runs of consecutive days in a sorted, duplicate-free array into ranges. */
+    @NonNull
+    private static DayRanges toRanges(@NonNull int[] sortedDays) {
+        if (sortedDays.length == 0) {
+            return DayRanges.empty();
+        }
+        int count = 1;
+        for (int i = 1; i < sortedDays.length; i++) {
+            if (sortedDays[i] != sortedDays[i - 1] + 1) {
+                count++;
+            }
+        }
+        int[] starts = new int[count];
+        int[] ends = new int[count];
+        int range = 0;
+        starts[0] = sortedDays[0];
+        for (int i = 1; i < sortedDays.length; i++) {
+            if (sortedDays[i] != sortedDays[i - 1] + 1) {
+                ends[range++] = sortedDays[i - 1];
+                starts[range] = sortedDays[i];
+            }
+        }
+        ends[range] = sortedDays[sortedDays.length - 1];
+        return DayRanges.wrap(starts, ends);
+    }
+
+    /** Lists every day of {@code ranges}, ascending. */
+    @NonNull
+    private static int[] toDays(@NonNull DayRanges ranges) {
+        int size = 0;
+        for (int i = 0; i < ranges.getRangeCount(); i++) {
+            size += ranges.getEnd(i) - ranges.getStart(i) + 1;
+        }
+        int[] days = new int[size];
+        int index = 0;
+        for (int i = 0; i < ranges.getRangeCount(); i++) {
+            for (int day = ranges.getStart(i); day <= ranges.getEnd(i); day++) {
+                days[index++] = day;
+            }
+        }
+        return days;
+    }
+
+    /**
+     * Converts a collection of timestamps to sorted, duplicate-free epoch days.
+     */
+    @NonNull
+    static int[] toSortedEpochDays(@NonNull Collection<Long> days) {
+        int[] epochDays = new int[days.size()];
+        int index = 0;
+        for (Long day : days) {
+            epochDays[index++] = EpochDays.fromTimeInMillis(day);
+        }
+        return EpochDaySet.sortedDistinct(epochDays);
+    }
+
+    /** Days that entered the selection, as merged ranges. */
+    @NonNull
+    public DayRanges getAddedRanges() {
+        return addedRanges;
+    }
+
+    /** Days that left the selection, as merged ranges. */
+    @NonNull
+    public DayRanges getRemovedRanges() {
+        return removedRanges;
+    }
+
+    /**
+     * Days that entered the selection, ascending. Listed on first call, which takes time and
+     * memory in proportion to the days; prefer {@link #getAddedRanges()}. Callers must not modify
+     * the array.
+     */
+    @NonNull
+    public int[] getAddedDays() {
+        if (addedDays == null) {
+            addedDays = toDays(addedRanges);
+        }
+        return addedDays;
+    }
+
+    /**
+     * Days that left the selection, ascending. Listed on first call, like
+     * {@link #getAddedDays()}. Callers must not modify the array.
+     */
+    @NonNull
+    public int[] getRemovedDays() {
+        if (removedDays == null) {
+            removedDays = toDays(removedRanges);
+        }
+        return removedDays;
+    }
+
+    /** Returns true if no day entered or left the selection. */
+    public boolean isEmpty() {
+        return addedRanges.getRangeCount() == 0 && removedRanges.getRangeCount() == 0;
+    }
+}
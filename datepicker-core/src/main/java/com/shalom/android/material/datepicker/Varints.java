@@ -0,0 +1,63 @@
+package com.shalom.android.material.datepicker;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Unsigned LEB128 varint helpers for compact encodings of epoch days, plus zigzag mapping for
+ * values that may be negative.
+ */
+final class Varints {
+
+    /** Upper bound on the encoded size of one int. */
+    static final int MAX_INT_BYTES = 5;
+
+    private Varints() {}
+
+    /**
+     * Writes {@code value} at the buffer's position, treating it as unsigned.
+     */
+    static void write(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned value at the buffer's position.
+     *
+     * @throws IllegalArgumentException if the value runs past {@link #MAX_INT_BYTES} bytes
+     */
+    static int read(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 7 * MAX_INT_BYTES; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    /** Returns the number of bytes {@link #write} uses for {@code value}. */
+    static int size(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    /** Maps a signed value to an unsigned one so small magnitudes stay short. */
+    static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /** Inverse of {@link #zigzag(int)}. */
+    static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,109 @@
+package com.shalom.android.material.datepicker;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.BitSet;
+
+public class DateRulesTest {
+
+    private static final int FIRST_DAY = EthiopicDateConverter.ethiopicToEpochDay(2014, 1, 1);
+    private static final int LAST_DAY = EthiopicDateConverter.ethiopicToEpochDay(2018, 13, 5);
+
+    @Test
+    public void compiledRulesMatchAPerDayCheck() {
+        int excludedStart = EthiopicDateConverter.ethiopicToEpochDay(2016, 12, 25);
+        int excludedEnd = EthiopicDateConverter.ethiopicToEpochDay(2017, 1, 4);
+        DateRules rules = new DateRules.Builder()
+                .weekdaysOnly()
+                .excludeMonth(13)
+                .excludeFixedHolidays()
+                .dayOfMonthBetween(1, 28)
+                .excludeEpochDayRange(excludedStart, excludedEnd)
+                .build();
+
+        // Four years spanning a leap year, queried out of order so years compile unsorted
+        for (int epochDay = LAST_DAY; epochDay >= FIRST_DAY; epochDay--) {
+            EthiopicDateConverter.EthiopicDate date = EthiopicDateConverter.epochDayToEthiopic(epochDay);
+            int dayOfWeek = EthiopicDateConverter.dayOfWeek(epochDay);
+            boolean expected = dayOfWeek != 6 && dayOfWeek != 7
+                    && date.month != 13
+                    && !(date.month == 1 && (date.day == 1 || date.day == 17))
+                    && !(date.month == 4 && date.day == 29)
+                    && !(date.month == 5 && date.day == 11)
+                    && !(date.month == 6 && date.day == 23)
+                    && !(date.month == 8 && date.day == 27)
+                    && !(date.month == 9 && date.day == 20)
+                    && date.day <= 28
+                    && (epochDay < excludedStart || epochDay > excludedEnd);
+            assertEquals("epoch day " + epochDay, expected, rules.isValid(epochDay));
+        }
+    }
+
+    @Test
+    public void isValidRangeCrossesYearsAndClearsStaleBits() {
+        DateRules rules = new DateRules.Builder().excludeMonth(13).excludeDate(1, 1).build();
+        // Pagume of a leap year through the first days of the next year
+        int start = EthiopicDateConverter.ethiopicToEpochDay(2015, 13, 1);
+        BitSet out = new BitSet();
+        out.set(0, 64);
+        rules.isValidRange(start, 10, out);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("offset " + i, rules.isValid(start + i), out.get(i));
+        }
+        assertFalse(out.get(5));
+        assertFalse(out.get(6));
+        assertTrue(out.get(7));
+        assertTrue(out.get(10));
+    }
+
+    @Test
+    public void arrayRoundTripKeepsEveryRule() {
+        DateRules rules = new DateRules.Builder()
+                .excludeDayOfWeek(3)
+                .excludeDate(5, 11)
+                .dayOfMonthBetween(2, 29)
+                .excludeEpochDayRange(-40, 12)
+                .build();
+        int[] array = rules.toArray();
+        assertArrayEquals(new int[] {1, 3, 0, 3, 5, 11, 4, 2, 29, 5, -40, 12}, array);
+
+        DateRules restored = DateRules.fromArray(array.clone());
+        assertEquals(rules, restored);
+        assertEquals(rules.hashCode(), restored.hashCode());
+        assertNotEquals(rules, new DateRules.Builder().excludeDayOfWeek(3).build());
+        for (int epochDay = FIRST_DAY; epochDay <= LAST_DAY; epochDay += 7) {
+            assertEquals(rules.isValid(epochDay), restored.isValid(epochDay));
+        }
+    }
+
+    @Test
+    public void emptyRulesAcceptEveryDay() {
+        DateRules rules = new DateRules.Builder().build();
+        assertEquals(0, rules.toArray().length);
+        BitSet out = new BitSet();
+        rules.isValidRange(FIRST_DAY, 400, out);
+        assertEquals(400, out.cardinality());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fromArrayRejectsPartialRules() {
+        DateRules.fromArray(new int[] {1, 3});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void builderRejectsInvalidDayOfWeek() {
+        new DateRules.Builder().excludeDayOfWeek(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void builderRejectsInvertedDayRange() {
+        new DateRules.Builder().dayOfMonthBetween(20, 10);
+    }
+}
@@ -0,0 +1,73 @@
+package com.shalom.android.material.datepicker;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+public class DayAttributeStoreTest {
+
+    private static final int HOLIDAY = 1;
+    private static final int FASTING = 1 << 1;
+    private static final int PAYROLL = 1 << 9;
+
+    @Test
+    public void mappedFileAnswersLikeTheBuilder() throws IOException {
+        int first = EthiopicDateConverter.ethiopicToEpochDay(1950, 1, 1);
+        int last = EthiopicDateConverter.ethiopicToEpochDay(2150, 1, 1) - 1;
+        int enkutatash = EthiopicDateConverter.ethiopicToEpochDay(2017, 1, 1);
+        DayAttributeStore.Builder builder = new DayAttributeStore.Builder(first, last - first + 1, 2)
+                .add(enkutatash, HOLIDAY)
+                .add(enkutatash + 10, enkutatash + 20, FASTING)
+                .add(enkutatash + 15, PAYROLL);
+
+        File file = File.createTempFile("attributes", ".edas");
+        try {
+            builder.writeTo(file);
+            DayAttributeStore store = DayAttributeStore.open(file);
+            assertEquals(2, store.getWidth());
+            assertEquals(first, store.getFirstEpochDay());
+            assertTrue(store.has(enkutatash, HOLIDAY));
+            assertFalse(store.has(enkutatash + 1, HOLIDAY | FASTING));
+            assertEquals(FASTING | PAYROLL, store.get(enkutatash + 15));
+            assertEquals(0, store.get(last + 1));
+
+            int[] month = new int[30];
+            store.read(enkutatash, month.length, month, 0);
+            int[] expected = new int[30];
+            builder.build().read(enkutatash, expected.length, expected, 0);
+            assertArrayEquals(expected, month);
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void rewritingLeavesMappedStoresIntact() throws IOException {
+        File dir = Files.createTempDirectory("attributes").toFile();
+        File file = new File(dir, "holidays.edas");
+        try {
+            new DayAttributeStore.Builder(0, 366, 1).add(5, HOLIDAY).writeTo(file);
+            DayAttributeStore before = DayAttributeStore.open(file);
+
+            new DayAttributeStore.Builder(0, 366, 1).add(6, HOLIDAY).writeTo(file);
+            assertTrue(before.has(5, HOLIDAY));
+            assertTrue(DayAttributeStore.open(file).has(6, HOLIDAY));
+            assertArrayEquals(new String[] {"holidays.edas"}, dir.list());
+        } finally {
+            file.delete();
+            dir.delete();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsAttributesWiderThanTheStore() {
+        new DayAttributeStore.Builder(0, 10, 1).set(3, 1 << 8);
+    }
+}
@@ -0,0 +1,112 @@
+package com.shalom.android.material.datepicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+public class DayRangesTest {
+
+    /** Epoch day of the first slot of the brute force reference. */
+    private static final int ORIGIN = -200;
+    private static final int SPAN = 1000;
+
+    @Test
+    public void overlappingAndAdjacentRangesMerge() {
+        DayRanges ranges = new DayRanges.Builder()
+                .add(20, 25)
+                .add(1, 5)
+                .add(6, 8)    // adjacent to 1-5
+                .add(3, 4)    // inside 1-5
+                .add(22, 30)  // overlaps 20-25
+                .add(32, 32)  // one-day gap after 20-30
+                .build();
+
+        assertEquals(3, ranges.getRangeCount());
+        assertEquals(1, ranges.getStart(0));
+        assertEquals(8, ranges.getEnd(0));
+        assertEquals(20, ranges.getStart(1));
+        assertEquals(30, ranges.getEnd(1));
+        assertEquals(32, ranges.getStart(2));
+        assertEquals(32, ranges.getEnd(2));
+
+        assertTrue(ranges.contains(8));
+        assertFalse(ranges.contains(9));
+        assertFalse(ranges.contains(31));
+        assertTrue(ranges.contains(32));
+        assertFalse(ranges.contains(33));
+    }
+
+    @Test
+    public void randomRangesMatchBruteForce() {
+        Random random = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            boolean[] covered = new boolean[SPAN];
+            DayRanges.Builder builder = new DayRanges.Builder();
+            int rangeCount = random.nextInt(40);
+            for (int r = 0; r < rangeCount; r++) {
+                int start = random.nextInt(SPAN - 40);
+                int end = start + random.nextInt(40);
+                builder.add(ORIGIN + start, ORIGIN + end);
+                for (int i = start; i <= end; i++) {
+                    covered[i] = true;
+                }
+            }
+            DayRanges ranges = builder.build();
+
+            int expectedRanges = 0;
+            for (int i = 0; i < SPAN; i++) {
+                assertEquals(covered[i], ranges.contains(ORIGIN + i));
+                if (covered[i] && (i == 0 || !covered[i - 1])) {
+                    expectedRanges++;
+                }
+            }
+            assertEquals(expectedRanges, ranges.getRangeCount());
+
+            // Month-sized windows at every offset, including ones straddling range edges
+            BitSet out = new BitSet();
+            for (int offset = 0; offset + 42 <= SPAN; offset += 13) {
+                out.set(0, 64);
+                ranges.setUncovered(ORIGIN + offset, 42, out);
+                for (int i = 0; i < 42; i++) {
+                    assertEquals(!covered[offset + i], out.get(i));
+                }
+                // Bits past the window are left alone
+                assertTrue(out.get(42));
+            }
+        }
+    }
+
+    @Test
+    public void windowsOutsideEveryRangeAreFullyUncovered() {
+        DayRanges ranges = new DayRanges.Builder().add(100, 110).build();
+        BitSet out = new BitSet();
+        ranges.setUncovered(60, 40, out);
+        assertEquals(40, out.cardinality());
+        ranges.setUncovered(111, 30, out);
+        assertEquals(40, out.cardinality());
+        ranges.setUncovered(110, 1, out);
+        assertFalse(out.get(0));
+    }
+
+    @Test
+    public void emptyBuilderReturnsTheSharedEmptySet() {
+        DayRanges ranges = new DayRanges.Builder().build();
+        assertSame(DayRanges.empty(), ranges);
+        assertFalse(ranges.contains(0));
+        assertNotEquals(ranges, new DayRanges.Builder().add(0, 0).build());
+        assertEquals(new DayRanges.Builder().add(5, 9).add(1, 4).build(),
+                new DayRanges.Builder().add(1, 9).build());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invertedRangeIsRejected() {
+        new DayRanges.Builder().add(5, 4);
+    }
+}
@@ -0,0 +1,77 @@
+package com.shalom.android.material.datepicker;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.TreeSet;
+
+public class EpochDaySetTest {
+
+    @Test
+    public void toggleAddsAndRemovesWithoutChangingTheOriginal() {
+        EpochDaySet days = EpochDaySet.of(new int[] {30, 10, 20, 10});
+        assertArrayEquals(new int[] {10, 20, 30}, days.toEpochDayArray());
+
+        EpochDaySet added = days.toggle(25);
+        EpochDaySet removed = added.toggle(10);
+        assertArrayEquals(new int[] {10, 20, 25, 30}, added.toEpochDayArray());
+        assertArrayEquals(new int[] {20, 25, 30}, removed.toEpochDayArray());
+        assertArrayEquals(new int[] {10, 20, 30}, days.toEpochDayArray());
+
+        assertTrue(removed.containsEpochDay(25));
+        assertFalse(removed.containsEpochDay(10));
+        assertTrue(removed.contains(EpochDays.toTimeInMillis(20)));
+        assertSame(EpochDaySet.empty(), EpochDaySet.of(new int[] {7}).toggle(7));
+    }
+
+    @Test
+    public void largeSetsMatchASortedSetAcrossChunks() {
+        // Enough days to split into many chunks, toggled in an order that grows and empties them
+        TreeSet<Integer> expected = new TreeSet<>();
+        EpochDaySet days = EpochDaySet.empty();
+        for (int i = 0; i < 20_000; i++) {
+            int day = (int) ((i * 7919L) % 12_000);
+            days = days.toggle(day);
+            if (!expected.remove(day)) {
+                expected.add(day);
+            }
+        }
+        assertEquals(expected.size(), days.size());
+        int index = 0;
+        for (int day : expected) {
+            assertEquals(day, days.getEpochDay(index++));
+        }
+        EpochDaySet rebuilt = EpochDaySet.of(days.toEpochDayArray());
+        assertEquals(rebuilt, days);
+        assertEquals(rebuilt.hashCode(), days.hashCode());
+        assertNotEquals(rebuilt, days.toggle(-1));
+    }
+
+    @Test
+    public void fillMaskMarksOnlyDaysOfTheWindow() {
+        EpochDaySet days = EpochDaySet.of(new int[] {-5, 100, 101, 129, 130, 400});
+        BitSet mask = new BitSet();
+        days.fillMask(100, 30, mask);
+        assertEquals("{0, 1, 29}", mask.toString());
+    }
+
+    @Test
+    public void codecRoundTrip() {
+        EpochDaySet days = EpochDaySet.empty();
+        for (int day = 0; day < 3000; day += 3) {
+            days = days.toggle(day);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(EthiopicDateCodec.encodedSize(days.toEpochDayArray()));
+        EthiopicDateCodec.putDays(buffer, days);
+        buffer.flip();
+        assertEquals(days, EthiopicDateCodec.getDaySet(buffer));
+    }
+}
@@ -0,0 +1,113 @@
+package com.shalom.android.material.datepicker;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+public class EthiopicDateCodecTest {
+
+    @Test
+    public void singleDatesRoundTrip() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        int[] days = {
+                EthiopicDateConverter.ethiopicToEpochDay(2016, 13, 5),
+                EthiopicDateConverter.ethiopicToEpochDay(1962, 4, 22),
+                -1,
+                0,
+        };
+        for (int day : days) {
+            EthiopicDateCodec.putPackedDate(buffer, day);
+            EthiopicDateCodec.putVarintDate(buffer, day);
+        }
+        buffer.flip();
+        for (int day : days) {
+            assertEquals(day, EthiopicDateCodec.getPackedDate(buffer));
+            assertEquals(day, EthiopicDateCodec.getVarintDate(buffer));
+        }
+        assertEquals(days[0], EthiopicDateCodec.getPackedDate(buffer, 0));
+    }
+
+    @Test
+    public void packedDatesStopAtYearZero() {
+        int firstDay = EthiopicDateConverter.ethiopicToEpochDay(0, 1, 1);
+        ByteBuffer buffer = ByteBuffer.allocate(EthiopicDateCodec.PACKED_DATE_BYTES);
+        EthiopicDateCodec.putPackedDate(buffer, firstDay);
+        buffer.flip();
+        assertEquals(firstDay, EthiopicDateCodec.getPackedDate(buffer));
+
+        buffer.clear();
+        assertThrows(IllegalArgumentException.class,
+                () -> EthiopicDateCodec.putPackedDate(buffer, firstDay - 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> EthiopicDateCodec.putPackedDate(buffer, -717092));
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    public void sparseAndDenseSetsRoundTrip() {
+        int start = EthiopicDateConverter.ethiopicToEpochDay(2017, 1, 1);
+        int[] sparse = {start, start + 40, start + 400, start + 4000};
+        int[] dense = new int[200];
+        for (int i = 0; i < dense.length; i++) {
+            dense[i] = start + i + i / 7;
+        }
+        for (int[] days : new int[][] {new int[0], sparse, dense}) {
+            ByteBuffer buffer = ByteBuffer.allocate(EthiopicDateCodec.encodedSize(days));
+            EthiopicDateCodec.putDays(buffer, days);
+            assertEquals(buffer.capacity(), buffer.position());
+            buffer.flip();
+            assertArrayEquals(days, EthiopicDateCodec.getDays(buffer));
+        }
+        // A dense set costs about one bit per day of its span
+        assertTrue(EthiopicDateCodec.encodedSize(dense) < 40);
+    }
+
+    @Test
+    public void malformedSetsFailCleanly() {
+        // Delta format claiming 2^31 - 1 days in a four-byte buffer
+        assertMalformed(0, 0xFF, 0xFF, 0xFF, 0xFF, 0x07);
+        // Delta format with a count that is negative as an int
+        assertMalformed(0, 0xFF, 0xFF, 0xFF, 0xFF, 0x0F);
+        // Bitmap of 2 days over a span of 8 days whose byte has 3 bits set
+        assertMalformed(1, 2, 0, 7, 0b0000_0111);
+        // Bitmap claiming more days than its span holds
+        assertMalformed(1, 9, 0, 7, 0xFF);
+        // Bitmap whose span needs more bytes than remain
+        assertMalformed(1, 1, 0, 0x80, 0x01, 0x01);
+        // Ranges claiming more ranges than bytes remain
+        ByteBuffer ranges = bytes(0x7F, 0, 0);
+        assertThrows(IllegalArgumentException.class, () -> EthiopicDateCodec.getRanges(ranges));
+    }
+
+    private static void assertMalformed(int... encoded) {
+        ByteBuffer buffer = bytes(encoded);
+        assertThrows(IllegalArgumentException.class, () -> EthiopicDateCodec.getDays(buffer));
+    }
+
+    private static ByteBuffer bytes(int... values) {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length);
+        for (int value : values) {
+            buffer.put((byte) value);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    @Test
+    public void rangesRoundTrip() {
+        DayRanges ranges = new DayRanges.Builder()
+                .add(-10, -3)
+                .add(5, 5)
+                .add(7, 300)
+                .build();
+        ByteBuffer buffer = ByteBuffer.allocate(EthiopicDateCodec.encodedSize(ranges));
+        EthiopicDateCodec.putRanges(buffer, ranges);
+        buffer.flip();
+        assertEquals(ranges, EthiopicDateCodec.getRanges(buffer));
+    }
+}
@@ -0,0 +1,73 @@
+package com.shalom.android.material.datepicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+
+/**
+ * Plain JVM checks of the calendar math shared with the Android library.
+ */
+public class EthiopicDateConverterTest {
+
+    @Test
+    public void newYearFallsOnKnownGregorianDates() {
+        // Enkutatash is on 12 September after a Pagume of 6 days and on 11 September otherwise
+        assertEquals(LocalDate.of(2023, 9, 12).toEpochDay(),
+                EthiopicDateConverter.ethiopicToEpochDay(2016, 1, 1));
+        assertEquals(LocalDate.of(2024, 9, 11).toEpochDay(),
+                EthiopicDateConverter.ethiopicToEpochDay(2017, 1, 1));
+        assertEquals(6, EthiopicDateConverter.getEthiopicMonthDays(2015, 13));
+        assertEquals(5, EthiopicDateConverter.getEthiopicMonthDays(2016, 13));
+    }
+
+    @Test
+    public void yearAndDayOfWeekRoundTripOverManyYears() {
+        int start = EthiopicDateConverter.ethiopicToEpochDay(1900, 1, 1);
+        int end = EthiopicDateConverter.ethiopicToEpochDay(2100, 1, 1);
+        for (int epochDay = start; epochDay < end; epochDay++) {
+            int year = EthiopicDateConverter.epochDayToEthiopicYear(epochDay);
+            int dayOfYear = epochDay - EthiopicDateConverter.ethiopicToEpochDay(year, 1, 1);
+            assertTrue(dayOfYear >= 0 && dayOfYear < EthiopicDateConverter.getEthiopicYearDays(year));
+            assertEquals(LocalDate.ofEpochDay(epochDay).getDayOfWeek().getValue(),
+                    EthiopicDateConverter.dayOfWeek(epochDay));
+        }
+    }
+
+    @Test
+    public void dateRulesAnswerRangesLikeSingleDays() {
+        DateRules rules = new DateRules.Builder()
+                .weekdaysOnly()
+                .excludeMonth(13)
+                .build();
+        int start = EthiopicDateConverter.ethiopicToEpochDay(2016, 12, 20);
+        BitSet bits = new BitSet();
+        rules.isValidRange(start, 42, bits);
+        for (int i = 0; i < 42; i++) {
+            assertEquals(rules.isValid(start + i), bits.get(i));
+        }
+        assertFalse(rules.isValid(EthiopicDateConverter.ethiopicToEpochDay(2016, 13, 1)));
+    }
+
+    @Test
+    public void dayRangesMergeOverlappingAndAdjacentRanges() {
+        DayRanges ranges = new DayRanges.Builder()
+                .add(20, 25)
+                .add(10, 12)
+                .add(13, 15)
+                .add(22, 30)
+                .build();
+        assertEquals(2, ranges.getRangeCount());
+        assertTrue(ranges.contains(14));
+        assertFalse(ranges.contains(16));
+        assertEquals(30, ranges.getEnd(1));
+
+        BitSet bits = new BitSet();
+        ranges.setUncovered(8, 10, bits);
+        assertEquals("{0, 1, 8, 9}", bits.toString());
+    }
+}
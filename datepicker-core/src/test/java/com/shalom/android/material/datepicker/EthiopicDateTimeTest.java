@@ -0,0 +1,59 @@
+package com.shalom.android.material.datepicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+public class EthiopicDateTimeTest {
+
+    private static final ZoneOffset EAT = ZoneOffset.ofHours(3);
+
+    private static long eat(int year, int month, int day, int hour, int minute) {
+        return LocalDateTime.of(year, month, day, hour, minute).toInstant(EAT).toEpochMilli();
+    }
+
+    @Test
+    public void hoursCountFromDawnAndDusk() {
+        long packed = EthiopicDateTime.pack(eat(2024, 9, 11, 7, 30), EthiopicDateTime.EAST_AFRICA_OFFSET_SECONDS);
+        assertEquals(1, EthiopicDateTime.packedHour(packed));
+        assertEquals(30, EthiopicDateTime.packedMinute(packed));
+        assertFalse(EthiopicDateTime.packedIsNight(packed));
+
+        packed = EthiopicDateTime.pack(eat(2024, 9, 11, 18, 0), EthiopicDateTime.EAST_AFRICA_OFFSET_SECONDS);
+        assertEquals(12, EthiopicDateTime.packedHour(packed));
+        assertTrue(EthiopicDateTime.packedIsNight(packed));
+    }
+
+    @Test
+    public void dateChangesAtDawnNotMidnight() {
+        int newYear = EthiopicDateConverter.ethiopicToEpochDay(2017, 1, 1);
+        long beforeDawn = EthiopicDateTime.pack(eat(2024, 9, 11, 5, 59), EthiopicDateTime.EAST_AFRICA_OFFSET_SECONDS);
+        long atDawn = EthiopicDateTime.pack(eat(2024, 9, 11, 6, 0), EthiopicDateTime.EAST_AFRICA_OFFSET_SECONDS);
+        assertEquals(newYear - 1, EthiopicDateTime.packedEpochDay(beforeDawn));
+        assertEquals(11, EthiopicDateTime.packedHour(beforeDawn));
+        assertTrue(EthiopicDateTime.packedIsNight(beforeDawn));
+        assertEquals(newYear, EthiopicDateTime.packedEpochDay(atDawn));
+        assertEquals(12, EthiopicDateTime.packedHour(atDawn));
+    }
+
+    @Test
+    public void zoneAndOffsetFormsAgree() {
+        long time = eat(2024, 1, 19, 9, 5);
+        assertEquals(EthiopicDateTime.pack(time, EthiopicDateTime.EAST_AFRICA_OFFSET_SECONDS),
+                EthiopicDateTime.pack(time, ZoneId.of("Africa/Addis_Ababa")));
+    }
+
+    @Test
+    public void formatsIntoStringBuilder() {
+        CalendarLabels.setCurrent(CalendarLabels.ENGLISH);
+        long packed = EthiopicDateTime.pack(eat(2024, 9, 11, 9, 5), EthiopicDateTime.EAST_AFRICA_OFFSET_SECONDS);
+        assertEquals("Meskerem 1, 2017 3:05 day",
+                EthiopicDateTime.appendPacked(new StringBuilder(), packed).toString());
+    }
+}
@@ -0,0 +1,54 @@
+package com.shalom.android.material.datepicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+public class EthiopicLocalDateTest {
+
+    @Test
+    public void epochDayRoundTripsThroughFields() {
+        int start = EthiopicDateConverter.ethiopicToEpochDay(1950, 1, 1);
+        int end = EthiopicDateConverter.ethiopicToEpochDay(2050, 1, 1);
+        for (int epochDay = start; epochDay < end; epochDay++) {
+            EthiopicLocalDate date = EthiopicLocalDate.ofEpochDay(epochDay);
+            assertEquals(date, EthiopicLocalDate.of(date.getYear(), date.getMonth(), date.getDayOfMonth()));
+            assertEquals(epochDay, date.toEpochDay());
+        }
+    }
+
+    @Test
+    public void plusMonthsClampsToPagume() {
+        EthiopicLocalDate date = EthiopicLocalDate.of(2016, 12, 30);
+        assertEquals(EthiopicLocalDate.of(2016, 13, 5), date.plusMonths(1));
+        assertEquals(EthiopicLocalDate.of(2015, 13, 6), date.plusMonths(-12));
+        assertEquals(EthiopicLocalDate.of(2017, 1, 30), date.plusMonths(2));
+    }
+
+    @Test
+    public void monthsUntilCountsWholeMonths() {
+        EthiopicLocalDate start = EthiopicLocalDate.of(2016, 1, 15);
+        assertEquals(13, start.monthsUntil(EthiopicLocalDate.of(2017, 1, 15)));
+        assertEquals(12, start.monthsUntil(EthiopicLocalDate.of(2017, 1, 14)));
+        assertEquals(-1, start.monthsUntil(EthiopicLocalDate.of(2015, 13, 1)));
+    }
+
+    @Test
+    public void convertsToAndFromLocalDate() {
+        LocalDate gregorian = LocalDate.of(2024, 9, 11);
+        EthiopicLocalDate date = EthiopicLocalDate.from(gregorian);
+        assertEquals(EthiopicLocalDate.of(2017, 1, 1), date);
+        assertEquals(gregorian, date.toLocalDate());
+        assertEquals(gregorian.getDayOfWeek().getValue(), date.getDayOfWeek());
+        assertEquals("2017-01-01", date.toString());
+    }
+
+    @Test
+    public void rejectsDaysOutsideTheMonth() {
+        assertThrows(IllegalArgumentException.class, () -> EthiopicLocalDate.of(2016, 13, 6));
+        assertThrows(IllegalArgumentException.class, () -> EthiopicLocalDate.of(2016, 14, 1));
+    }
+}
@@ -0,0 +1,91 @@
+package com.shalom.android.material.datepicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+import java.util.BitSet;
+import java.util.PrimitiveIterator;
+
+public class EthiopicRecurrenceTest {
+
+    private static final int START = EthiopicDateConverter.ethiopicToEpochDay(2010, 1, 1);
+    private static final int END = EthiopicDateConverter.ethiopicToEpochDay(2030, 1, 1) - 1;
+
+    /** The occurrences of a rule found by testing every day, to compare the expansion with. */
+    private interface DayTest {
+        boolean matches(int month, int day, int lengthOfMonth, int epochDay);
+    }
+
+    private static void assertExpandsLike(EthiopicRecurrence rule, DayTest test) {
+        PrimitiveIterator.OfInt occurrences = rule.occurrences(START, END);
+        for (int epochDay = START; epochDay <= END; epochDay++) {
+            EthiopicLocalDate date = EthiopicLocalDate.ofEpochDay(epochDay);
+            if (test.matches(date.getMonth(), date.getDayOfMonth(), date.lengthOfMonth(), epochDay)) {
+                assertEquals(date.toString(), epochDay, occurrences.nextInt());
+            }
+        }
+        assertFalse(occurrences.hasNext());
+    }
+
+    @Test
+    public void monthlyOnDaySkipsShortPagume() {
+        assertExpandsLike(EthiopicRecurrence.monthly(12), (month, day, length, epochDay) -> day == 12);
+        assertExpandsLike(EthiopicRecurrence.monthly(6), (month, day, length, epochDay) -> day == 6);
+    }
+
+    @Test
+    public void yearlyOnDate() {
+        assertExpandsLike(EthiopicRecurrence.yearly(1, 17),
+                (month, day, length, epochDay) -> month == 1 && day == 17);
+        assertExpandsLike(EthiopicRecurrence.yearly(13, 6),
+                (month, day, length, epochDay) -> month == 13 && day == 6);
+    }
+
+    @Test
+    public void lastDayOfPagume() {
+        assertExpandsLike(EthiopicRecurrence.lastDayOfMonth(13),
+                (month, day, length, epochDay) -> month == 13 && day == length);
+        assertExpandsLike(EthiopicRecurrence.lastDayOfMonth(),
+                (month, day, length, epochDay) -> day == length);
+    }
+
+    @Test
+    public void nthWeekdayOfMonth() {
+        // Second Sunday of Tir
+        assertExpandsLike(EthiopicRecurrence.yearlyOnWeekday(5, 2, 7),
+                (month, day, length, epochDay) -> month == 5 && day > 7 && day <= 14
+                        && EthiopicDateConverter.dayOfWeek(epochDay) == 7);
+        // Last Friday of every month
+        assertExpandsLike(EthiopicRecurrence.monthlyOnWeekday(-1, 5),
+                (month, day, length, epochDay) -> day > length - 7
+                        && EthiopicDateConverter.dayOfWeek(epochDay) == 5);
+        // Fifth Monday, which most months and every Pagume lack
+        assertExpandsLike(EthiopicRecurrence.monthlyOnWeekday(5, 1),
+                (month, day, length, epochDay) -> day > 28
+                        && EthiopicDateConverter.dayOfWeek(epochDay) == 1);
+    }
+
+    @Test
+    public void weekdayOfPagumeOnlyFirstOrLast() {
+        // Pagume has 5 or 6 days, so a weekday is either missing or both first and last
+        assertExpandsLike(EthiopicRecurrence.yearlyOnWeekday(13, 1, 3),
+                (month, day, length, epochDay) -> month == 13
+                        && EthiopicDateConverter.dayOfWeek(epochDay) == 3);
+        assertExpandsLike(EthiopicRecurrence.yearlyOnWeekday(13, -1, 3),
+                (month, day, length, epochDay) -> month == 13
+                        && EthiopicDateConverter.dayOfWeek(epochDay) == 3);
+        assertThrows(IllegalArgumentException.class, () -> EthiopicRecurrence.yearlyOnWeekday(13, 2, 3));
+        assertThrows(IllegalArgumentException.class, () -> EthiopicRecurrence.yearlyOnWeekday(13, -2, 3));
+    }
+
+    @Test
+    public void markSetsOnlyOccurrencesOfTheMonth() {
+        int start = EthiopicDateConverter.ethiopicToEpochDay(2017, 5, 1);
+        BitSet bits = new BitSet();
+        EthiopicRecurrence.monthly(12).mark(start, 30, bits);
+        assertEquals("{11}", bits.toString());
+    }
+}
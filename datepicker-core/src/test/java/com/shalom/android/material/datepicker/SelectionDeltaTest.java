@@ -0,0 +1,44 @@
+package com.shalom.android.material.datepicker;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class SelectionDeltaTest {
+
+    @Test
+    public void rangeChangesKeepEndpointsOnly() {
+        // Extending a range by ten years adds one range, not thousands of days
+        SelectionDelta delta = SelectionDelta.betweenRanges(100, 110, 100, 3760);
+        assertEquals(1, delta.getAddedRanges().getRangeCount());
+        assertEquals(111, delta.getAddedRanges().getStart(0));
+        assertEquals(3760, delta.getAddedRanges().getEnd(0));
+        assertEquals(0, delta.getRemovedRanges().getRangeCount());
+
+        // Shrinking from both sides removes a head and a tail
+        delta = SelectionDelta.betweenRanges(10, 20, 13, 17);
+        assertArrayEquals(new int[] {10, 11, 12, 18, 19, 20}, delta.getRemovedDays());
+        assertEquals(0, delta.getAddedDays().length);
+
+        // Disjoint ranges swap completely
+        delta = SelectionDelta.betweenRanges(1, 2, 5, 6);
+        assertArrayEquals(new int[] {5, 6}, delta.getAddedDays());
+        assertArrayEquals(new int[] {1, 2}, delta.getRemovedDays());
+
+        assertSame(SelectionDelta.NONE, SelectionDelta.betweenRanges(3, 9, 3, 9));
+        assertSame(SelectionDelta.NONE, SelectionDelta.betweenRanges(1, 0, 1, 0));
+    }
+
+    @Test
+    public void daysAreMergedIntoRanges() {
+        SelectionDelta delta = SelectionDelta.between(new int[] {1, 2, 3, 9}, new int[] {3, 4, 5, 6, 20});
+        assertArrayEquals(new int[] {4, 5, 6, 20}, delta.getAddedDays());
+        assertArrayEquals(new int[] {1, 2, 9}, delta.getRemovedDays());
+        assertEquals(2, delta.getAddedRanges().getRangeCount());
+        assertEquals(4, delta.getAddedRanges().getStart(0));
+        assertEquals(6, delta.getAddedRanges().getEnd(0));
+        assertEquals(2, delta.getRemovedRanges().getRangeCount());
+    }
+}
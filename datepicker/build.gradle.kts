@@ -32,9 +32,19 @@ android {
     buildFeatures {
         viewBinding = true
     }
+
+    testOptions {
+        unitTests {
+            // Robolectric tests inflate the library layouts
+            isIncludeAndroidResources = true
+        }
+    }
 }
 
 dependencies {
+    // Calendar math, selection sets and validator engines, shared with plain JVM users
+    api(project(":datepicker-core"))
+
     // AndroidX Core
     implementation("androidx.core:core-ktx:1.17.0")
     implementation("androidx.appcompat:appcompat:1.7.0")
@@ -56,11 +66,13 @@ dependencies {
     // Annotation support
     implementation("androidx.annotation:annotation:1.9.1")
 
-    // ThreeTen-Extra for EthiopicDate (future use)
-    implementation("org.threeten:threeten-extra:1.8.0")
+    // Trace sections for performance instrumentation
+    implementation("androidx.tracing:tracing:1.2.0")
 
     // Testing
     testImplementation("junit:junit:4.13.2")
+    testImplementation("org.robolectric:robolectric:4.14.1")
+    testImplementation("androidx.test:core:1.6.1")
     androidTestImplementation("androidx.test.ext:junit:1.2.1")
     androidTestImplementation("androidx.test.espresso:espresso-core:3.6.1")
 }
@@ -0,0 +1,29 @@
+package com.shalom.android.material.datepicker;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+import java.util.BitSet;
+
+/**
+ * A {@link DateValidator} whose answers are too slow to compute while binding, for example
+ * because they come from a database.
+ *
+ * <p>The calendar never calls {@link #isValidRange(int, int, BitSet)} on the main thread for
+ * these validators. Each month is loaded once on a background executor, its days render in a
+ * pending state until the result arrives, and only the page showing that month is then rebound.
+ * Results are kept in a bounded per-month cache and loads for pages that scroll away are
+ * cancelled, so implementations should respond to thread interruption where practical. If the
+ * range call throws, the month is answered with {@link #isValid(long)} one day at a time instead.
+ */
+public interface AsyncDateValidator extends DateValidator {
+
+    /**
+     * Evaluates a range of days. Called on a background thread.
+     *
+     * @see DateValidator#isValidRange(int, int, BitSet)
+     */
+    @WorkerThread
+    @Override
+    void isValidRange(int startEpochDay, int count, @NonNull BitSet out);
+}
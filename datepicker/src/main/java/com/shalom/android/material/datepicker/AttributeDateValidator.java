@@ -0,0 +1,166 @@
+package com.shalom.android.material.datepicker;
+
+import android.os.Parcel;
+
+import androidx.annotation.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link DateValidator} that blocks the days carrying any of a set of attribute bits in a
+ * {@link DayAttributeStore}, for example every day flagged as office closed.
+ *
+ * <p>Lookups read the mapped store directly, so a whole month is answered without parsing or
+ * allocating. A validator over a store file parcels as the file's path; the file is mapped once
+ * per process and shared by every validator restored from it while any of them is alive. A file
+ * replaced since it was mapped, as {@link DayAttributeStore.Builder#writeTo(File)} does, is mapped
+ * again.
+ *
+ * <pre>
+ * DateValidator validator = AttributeDateValidator.open(storeFile, HOLIDAY | OFFICE_CLOSED);
+ * </pre>
+ */
+public final class AttributeDateValidator implements DateValidator {
+
+    /** Stores mapped by this process, by path; entries go once no validator holds the store. */
+    private static final Map<String, OpenStore> openStores = new ConcurrentHashMap<>();
+
+    private final DayAttributeStore store;
+    private final int blockedMask;
+
+    private AttributeDateValidator(@NonNull DayAttributeStore store, int blockedMask) {
+        this.store = store;
+        this.blockedMask = blockedMask;
+    }
+
+    /**
+     * Creates a validator blocking the days of {@code store} with any bit of {@code blockedMask}.
+     */
+    @NonNull
+    public static AttributeDateValidator from(@NonNull DayAttributeStore store, int blockedMask) {
+        return new AttributeDateValidator(store, blockedMask);
+    }
+
+    /**
+     * Creates a validator over the store in {@code file}, mapping the file unless this process
+     * already has.
+     */
+    @NonNull
+    public static AttributeDateValidator open(@NonNull File file, int blockedMask) throws IOException {
+        return new AttributeDateValidator(openStore(file.getPath()), blockedMask);
+    }
+
+    @NonNull
+    private static DayAttributeStore openStore(@NonNull String path) throws IOException {
+        File file = new File(path);
+        long lastModified = file.lastModified();
+        long length = file.length();
+        OpenStore open = openStores.get(path);
+        DayAttributeStore store = open != null ? open.get() : null;
+        if (store != null && open.lastModified == lastModified && open.length == length) {
+            return store;
+        }
+        store = DayAttributeStore.open(file);
+        openStores.values().removeIf(entry -> entry.get() == null);
+        openStores.put(path, new OpenStore(store, lastModified, length));
+        return store;
+    }
+
+    /** A weakly held mapped store and the file stamp it was mapped at. */
+    private static final class OpenStore extends WeakReference<DayAttributeStore> {
+
+        final long lastModified;
+        final long length;
+
+        OpenStore(@NonNull DayAttributeStore store, long lastModified, long length) {
+            super(store);
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+    }
+
+    @Override
+    public boolean isValid(long date) {
+        return !store.has(Month.toEpochDay(date), blockedMask);
+    }
+
+    @Override
+    public void isValidRange(int startEpochDay, int count, @NonNull BitSet out) {
+        for (int i = 0; i < count; i++) {
+            out.set(i, !store.has(startEpochDay + i, blockedMask));
+        }
+    }
+
+    @NonNull
+    public DayAttributeStore getStore() {
+        return store;
+    }
+
+    public int getBlockedMask() {
+        return blockedMask;
+    }
+
+    // Parcelable implementation
+
+    @Override
+    public int describeContents() {
+        return 0;
+    }
+
+    @Override
+    public void writeToParcel(@NonNull Parcel dest, int flags) {
+        dest.writeInt(blockedMask);
+        File file = store.getFile();
+        dest.writeString(file != null ? file.getPath() : null);
+        if (file == null) {
+            // In-memory stores travel as their bytes
+            ByteBuffer bytes = store.getBytes();
+            byte[] copy = new byte[bytes.remaining()];
+            bytes.get(copy);
+            dest.writeByteArray(copy);
+        }
+    }
+
+    public static final Creator<AttributeDateValidator> CREATOR = new Creator<AttributeDateValidator>() {
+        @NonNull
+        @Override
+        public AttributeDateValidator createFromParcel(@NonNull Parcel source) {
+            int blockedMask = source.readInt();
+            String path = source.readString();
+            if (path == null) {
+                return new AttributeDateValidator(
+                        DayAttributeStore.wrap(ByteBuffer.wrap(source.createByteArray())), blockedMask);
+            }
+            try {
+                return new AttributeDateValidator(openStore(path), blockedMask);
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot reopen day attribute store " + path, e);
+            }
+        }
+
+        @NonNull
+        @Override
+        public AttributeDateValidator[] newArray(int size) {
+            return new AttributeDateValidator[size];
+        }
+    };
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AttributeDateValidator)) return false;
+        AttributeDateValidator other = (AttributeDateValidator) o;
+        return store == other.store && blockedMask == other.blockedMask;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(store) + blockedMask;
+    }
+}
@@ -0,0 +1,55 @@
+package com.shalom.android.material.datepicker;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+
+/**
+ * A {@link DayDecorator} drawing dots for the attribute bits of a {@link DayAttributeStore}, for
+ * example one dot for holidays and another for payroll days.
+ *
+ * <p>The store is memory-mapped, so a month is read inline without a background load.
+ */
+public final class AttributeDayDecorator implements DayDecorator {
+
+    private final DayAttributeStore store;
+    private final int[] attributeMasks;
+    private final int[] dotColors;
+
+    /**
+     * @param attributeMasks for each dot, the attribute bits that show it
+     * @param dotColors the color of each dot, in the same order
+     */
+    public AttributeDayDecorator(
+            @NonNull DayAttributeStore store,
+            @NonNull int[] attributeMasks,
+            @NonNull @ColorInt int[] dotColors) {
+        if (attributeMasks.length != dotColors.length || attributeMasks.length > MAX_DOTS) {
+            throw new IllegalArgumentException(
+                    "Expected one color per mask and at most " + MAX_DOTS + " dots");
+        }
+        this.store = store;
+        this.attributeMasks = attributeMasks.clone();
+        this.dotColors = dotColors.clone();
+    }
+
+    @Override
+    public void decorate(int startEpochDay, int count, @NonNull int[] out) {
+        store.read(startEpochDay, count, out, 0);
+        for (int i = 0; i < count; i++) {
+            int attributes = out[i];
+            int dots = 0;
+            for (int dot = 0; dot < attributeMasks.length; dot++) {
+                if ((attributes & attributeMasks[dot]) != 0) {
+                    dots |= 1 << dot;
+                }
+            }
+            out[i] = dots;
+        }
+    }
+
+    @NonNull
+    @Override
+    public int[] getDotColors() {
+        return dotColors;
+    }
+}
@@ -6,12 +6,17 @@ import android.os.Parcelable;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.util.BitSet;
+
 /**
  * Used to limit the display range of {@link MaterialDatePicker} and set default selection.
  * Based on Material Components CalendarConstraints class.
  */
 public final class CalendarConstraints implements Parcelable {
 
+    /** Largest batch of days {@link #hasValidDays} asks the validator about at once. */
+    private static final int MAX_VALIDITY_CHUNK_DAYS = 32;
+
     @NonNull private final Month start;
     @NonNull private final Month end;
     @NonNull private final Month openAt;
@@ -64,6 +69,64 @@ public final class CalendarConstraints implements Parcelable {
         return true;
     }
 
+    /**
+     * Fills {@code out} with the selectable days of {@code month}. Bit {@code i} is set if day
+     * {@code i + 1} of the month is within bounds and accepted by the validator. The validator is
+     * consulted once for the whole month.
+     */
+    public void getValidDays(@NonNull Month month, @NonNull BitSet out) {
+        int monthStart = month.getStartEpochDay();
+        int count = month.getDaysInMonth();
+
+        out.clear();
+        if (validator != null) {
+            validator.isValidRange(monthStart, count, out);
+        } else {
+            out.set(0, count);
+        }
+
+        // Apply the same bounds as isWithinBounds
+        int lower = start.getStartEpochDay() - monthStart;
+        int upper = end.getStartEpochDay() - monthStart;
+        if (lower > 0) {
+            out.clear(0, Math.min(lower, count));
+        }
+        if (upper < count - 1) {
+            out.clear(Math.max(upper + 1, 0), count);
+        }
+    }
+
+    /**
+     * Returns true if any day from {@code startEpochDay} to {@code startEpochDay + count - 1} is
+     * within bounds and, unless {@code checkValidator} is false, accepted by the validator.
+     */
+    public boolean hasValidDays(int startEpochDay, int count, boolean checkValidator) {
+        int from = Math.max(startEpochDay, start.getStartEpochDay());
+        int to = Math.min(startEpochDay + count - 1, end.getStartEpochDay());
+        if (from > to) {
+            return false;
+        }
+        if (validator == null || !checkValidator) {
+            return true;
+        }
+        // Chunks double from one day up to a month: a mostly valid range stops after a single
+        // day, a mostly invalid one is still asked in month-sized batches
+        BitSet validDays = new BitSet(MAX_VALIDITY_CHUNK_DAYS);
+        int chunkStart = from;
+        int chunkDays = 1;
+        while (chunkStart <= to) {
+            int chunkCount = Math.min(chunkDays, to - chunkStart + 1);
+            validDays.clear();
+            validator.isValidRange(chunkStart, chunkCount, validDays);
+            if (!validDays.isEmpty()) {
+                return true;
+            }
+            chunkStart += chunkCount;
+            chunkDays = Math.min(chunkDays * 2, MAX_VALIDITY_CHUNK_DAYS);
+        }
+        return false;
+    }
+
     // Parcelable implementation
 
     @Override
@@ -0,0 +1,71 @@
+package com.shalom.android.material.datepicker;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+
+import androidx.annotation.NonNull;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves {@link CalendarLabels} from the library's string resources, once per locale for the
+ * whole process. Later lookups for the same locale, from any calendar, return the same table
+ * without touching {@link Resources}.
+ */
+final class CalendarLabelTables {
+
+    private static final Map<Locale, CalendarLabels> tables = new ConcurrentHashMap<>();
+
+    private CalendarLabelTables() {}
+
+    /**
+     * Returns the table for the locale of {@code context}'s configuration.
+     */
+    @NonNull
+    static CalendarLabels get(@NonNull Context context) {
+        return get(context, getLocale(context.getResources().getConfiguration()));
+    }
+
+    /**
+     * Returns the table for {@code locale}, reading the resources of that locale on first use.
+     */
+    @NonNull
+    static CalendarLabels get(@NonNull Context context, @NonNull Locale locale) {
+        CalendarLabels labels = tables.get(locale);
+        if (labels == null) {
+            labels = load(context, locale);
+            CalendarLabels existing = tables.putIfAbsent(locale, labels);
+            if (existing != null) {
+                labels = existing;
+            }
+        }
+        return labels;
+    }
+
+    @NonNull
+    static Locale getLocale(@NonNull Configuration configuration) {
+        return configuration.getLocales().isEmpty()
+                ? Locale.getDefault()
+                : configuration.getLocales().get(0);
+    }
+
+    @NonNull
+    private static CalendarLabels load(@NonNull Context context, @NonNull Locale locale) {
+        Resources resources = context.getResources();
+        if (!locale.equals(getLocale(resources.getConfiguration()))) {
+            Configuration configuration = new Configuration(resources.getConfiguration());
+            configuration.setLocale(locale);
+            resources = context.createConfigurationContext(configuration).getResources();
+        }
+        return new CalendarLabels(
+                locale,
+                resources.getStringArray(R.array.ethiopian_months),
+                resources.getStringArray(R.array.weekday_names_short),
+                resources.getString(R.string.mtrl_picker_day_count),
+                resources.getStringArray(R.array.day_period_names),
+                resources.getString(R.string.mtrl_picker_select_date));
+    }
+}
@@ -0,0 +1,36 @@
+package com.shalom.android.material.datepicker;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Shared day number strings for day cells, so binding a cell never formats a number. Names that
+ * depend on the locale live in {@link CalendarLabels}.
+ */
+final class DateLabels {
+
+    private static final String[] DAY_NUMBERS = new String[31];
+
+    static {
+        for (int i = 0; i < DAY_NUMBERS.length; i++) {
+            DAY_NUMBERS[i] = String.valueOf(i + 1);
+        }
+    }
+
+    private DateLabels() {}
+
+    /**
+     * Returns the labels for days 1 to 31 of a month. Callers must not modify the array.
+     */
+    @NonNull
+    static String[] dayNumbers() {
+        return DAY_NUMBERS;
+    }
+
+    /**
+     * Returns the label for day {@code day} of a month, 1 to 31.
+     */
+    @NonNull
+    static String dayNumber(int day) {
+        return DAY_NUMBERS[day - 1];
+    }
+}
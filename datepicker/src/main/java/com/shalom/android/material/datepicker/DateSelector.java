@@ -2,6 +2,7 @@ package com.shalom.android.material.datepicker;
 
 import android.os.Parcelable;
 
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import java.util.Collection;
@@ -14,6 +15,17 @@ import java.util.Collection;
  */
 public interface DateSelector<S> extends Parcelable {
 
+    /** The day is not part of the selection. */
+    int DAY_STATE_NONE = 0;
+    /** The day is selected on its own. */
+    int DAY_STATE_SELECTED = 1;
+    /** The day is the first day of a selected range. */
+    int DAY_STATE_RANGE_START = 2;
+    /** The day is the last day of a selected range. */
+    int DAY_STATE_RANGE_END = 3;
+    /** The day lies strictly between the first and last day of a selected range. */
+    int DAY_STATE_IN_RANGE = 4;
+
     /**
      * Returns the current selection.
      */
@@ -31,10 +43,18 @@ public interface DateSelector<S> extends Parcelable {
     Collection<Long> getSelectedDays();
 
     /**
-     * Returns the text to display as the selected value.
+     * Returns the text to display as the selected value, named from {@link CalendarLabels#current()}.
      */
     String getSelectionDisplayString();
 
+    /**
+     * Returns the text to display as the selected value, with names from {@code labels}. Calendars
+     * call this with their own table. The default ignores {@code labels}.
+     */
+    default String getSelectionDisplayString(@NonNull CalendarLabels labels) {
+        return getSelectionDisplayString();
+    }
+
     /**
      * Returns true if the current selection is valid.
      */
@@ -46,4 +66,55 @@ public interface DateSelector<S> extends Parcelable {
      * @param selection timestamp in milliseconds
      */
     void select(long selection);
+
+    /**
+     * Handles selection of a date like {@link #select(long)} and reports which days entered and
+     * left the selection, so listeners can update incrementally.
+     *
+     * <p>The default implementation compares {@link #getSelectedDays()} before and after the
+     * change; implementations should override it to report the difference directly.
+     *
+     * @param selection timestamp in milliseconds
+     * @return the change, or {@link SelectionDelta#NONE} if the selection did not change
+     */
+    @NonNull
+    default SelectionDelta selectWithDelta(long selection) {
+        int[] before = SelectionDelta.toSortedEpochDays(getSelectedDays());
+        select(selection);
+        int[] after = SelectionDelta.toSortedEpochDays(getSelectedDays());
+        return SelectionDelta.between(before, after);
+    }
+
+    /**
+     * Returns how the given day should be drawn: one of {@link #DAY_STATE_NONE},
+     * {@link #DAY_STATE_SELECTED}, {@link #DAY_STATE_RANGE_START}, {@link #DAY_STATE_RANGE_END}
+     * or {@link #DAY_STATE_IN_RANGE}.
+     *
+     * <p>Called once per day cell while binding. The default implementation scans
+     * {@link #getSelectedDays()}; implementations should override it with a direct comparison.
+     *
+     * @param epochDay the day, as days since 1970-01-01
+     */
+    default int getDayState(int epochDay) {
+        for (Long selectedDay : getSelectedDays()) {
+            if (Month.toEpochDay(selectedDay) == epochDay) {
+                return DAY_STATE_SELECTED;
+            }
+        }
+        return DAY_STATE_NONE;
+    }
+
+    /**
+     * Writes the {@link #getDayState(int) state} of day {@code startEpochDay + i} to
+     * {@code out[i]}, for {@code i} below {@code count}.
+     *
+     * <p>Called once per month while binding. The default implementation asks
+     * {@link #getDayState(int)} for each day; selectors whose lookup is not constant time should
+     * override it to answer the month at once.
+     */
+    default void fillDayStates(int startEpochDay, int count, @NonNull int[] out) {
+        for (int i = 0; i < count; i++) {
+            out[i] = getDayState(startEpochDay + i);
+        }
+    }
 }
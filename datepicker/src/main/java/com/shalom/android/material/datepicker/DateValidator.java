@@ -2,6 +2,10 @@ package com.shalom.android.material.datepicker;
 
 import android.os.Parcelable;
 
+import androidx.annotation.NonNull;
+
+import java.util.BitSet;
+
 /**
  * Interface for validating whether a date can be selected.
  * Based on Material Components DateValidator interface.
@@ -15,4 +19,22 @@ public interface DateValidator extends Parcelable {
      * @return true if valid
      */
     boolean isValid(long date);
+
+    /**
+     * Evaluates {@code count} consecutive days starting at {@code startEpochDay} in one call.
+     * Bit {@code i} of {@code out} is set if day {@code startEpochDay + i} is valid and cleared
+     * otherwise.
+     *
+     * <p>The default implementation calls {@link #isValid(long)} once per day. Validators backed
+     * by ranges or lookups should override this to answer the whole range at once.
+     *
+     * @param startEpochDay first day to evaluate, as days since 1970-01-01
+     * @param count number of days to evaluate
+     * @param out receives one bit per day
+     */
+    default void isValidRange(int startEpochDay, int count, @NonNull BitSet out) {
+        for (int i = 0; i < count; i++) {
+            out.set(i, isValid(Month.toTimeInMillis(startEpochDay + i)));
+        }
+    }
 }
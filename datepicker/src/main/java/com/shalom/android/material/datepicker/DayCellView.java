@@ -0,0 +1,185 @@
+package com.shalom.android.material.datepicker;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.text.TextPaint;
+import android.util.AttributeSet;
+import android.util.TypedValue;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.appcompat.widget.AppCompatTextView;
+
+/**
+ * A day cell of the month grid. Besides the Ethiopic day number it can draw a small secondary
+ * label, such as the matching Gregorian date, below the number, and a row of
+ * {@link DayDecorator} dots between the two.
+ */
+public class DayCellView extends AppCompatTextView {
+
+    private static final float SUB_LABEL_TEXT_SIZE_SP = 9f;
+    private static final float SUB_LABEL_ALPHA = 0.6f;
+    private static final float DOT_RADIUS_DP = 2f;
+    private static final float DOT_SPACING_DP = 6f;
+    /** Distance of the dot row from the bottom when there is no sub-label. */
+    private static final float DOT_MARGIN_DP = 6f;
+
+    /** Shared by every cell; only ever used on the main thread while drawing. */
+    private static final TextPaint subLabelPaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+
+    /** Shared by every cell, like {@link #subLabelPaint}. */
+    private static final Paint dotPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+    static {
+        subLabelPaint.setTextAlign(Paint.Align.CENTER);
+        dotPaint.setStyle(Paint.Style.FILL);
+    }
+
+    private final float subLabelTextSize;
+    private final int basePaddingBottom;
+    private final float dotRadius;
+    private final float dotSpacing;
+    private final float dotMargin;
+
+    private int dots;
+    @Nullable private int[] dotColors;
+
+    @Nullable private String subLabel;
+    @Nullable private PrecomputedLabels labels;
+    private int labelIndex;
+    /** Whether the label is shown with its measured layout rather than as a plain string. */
+    private boolean labelMeasured;
+    private final Runnable onLabelsMeasured = this::onLabelsMeasured;
+
+    public DayCellView(@NonNull Context context) {
+        this(context, null);
+    }
+
+    public DayCellView(@NonNull Context context, @Nullable AttributeSet attrs) {
+        this(context, attrs, android.R.attr.textViewStyle);
+    }
+
+    public DayCellView(@NonNull Context context, @Nullable AttributeSet attrs, int defStyleAttr) {
+        super(context, attrs, defStyleAttr);
+        subLabelTextSize = TypedValue.applyDimension(
+                TypedValue.COMPLEX_UNIT_SP, SUB_LABEL_TEXT_SIZE_SP, getResources().getDisplayMetrics());
+        basePaddingBottom = getPaddingBottom();
+        float density = getResources().getDisplayMetrics().density;
+        dotRadius = DOT_RADIUS_DP * density;
+        dotSpacing = DOT_SPACING_DP * density;
+        dotMargin = DOT_MARGIN_DP * density;
+    }
+
+    /**
+     * Shows label {@code index} of {@code labels} as the main text, or clears the text if
+     * {@code labels} is null. Setting the label already shown does nothing once its measured
+     * layout is shown; until then the plain string is shown and replaced when measuring ends.
+     */
+    void setLabel(@Nullable PrecomputedLabels labels, int index) {
+        if (labels == this.labels && index == labelIndex && (labels == null || labelMeasured)) {
+            return;
+        }
+        this.labels = labels;
+        this.labelIndex = index;
+        if (labels != null) {
+            applyLabel();
+        } else {
+            labelMeasured = false;
+            setText("");
+        }
+    }
+
+    private void applyLabel() {
+        labelMeasured = labels.apply(this, labelIndex);
+        if (!labelMeasured) {
+            labels.runWhenMeasured(onLabelsMeasured);
+        }
+    }
+
+    private void onLabelsMeasured() {
+        // Detached cells catch up when they are attached again
+        if (labels != null && !labelMeasured && isAttachedToWindow()) {
+            applyLabel();
+        }
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        if (labels != null && !labelMeasured && labels.isMeasured()) {
+            applyLabel();
+        }
+    }
+
+    /**
+     * Sets the secondary label, or removes it if {@code subLabel} is null. The label is expected
+     * to be a shared string, so an unchanged label is detected by identity.
+     */
+    public void setSubLabel(@Nullable String subLabel) {
+        if (this.subLabel == subLabel) {
+            return;
+        }
+        boolean hadSubLabel = this.subLabel != null;
+        this.subLabel = subLabel;
+        if (hadSubLabel != (subLabel != null)) {
+            // Lift the day number to make room for the label
+            int paddingBottom = subLabel != null ? basePaddingBottom + Math.round(subLabelTextSize) : basePaddingBottom;
+            setPadding(getPaddingLeft(), getPaddingTop(), getPaddingRight(), paddingBottom);
+        }
+        invalidate();
+    }
+
+    @Nullable
+    public String getSubLabel() {
+        return subLabel;
+    }
+
+    /**
+     * Draws a dot in {@code colors[i]} for each set bit {@code i} of {@code dots}, up to
+     * {@link DayDecorator#MAX_DOTS}. The colors are shared by every cell of the calendar, so an
+     * unchanged array is detected by identity.
+     */
+    void setDots(int dots, @Nullable int[] colors) {
+        if (colors == null) {
+            dots = 0;
+        } else {
+            dots &= (1 << Math.min(colors.length, DayDecorator.MAX_DOTS)) - 1;
+        }
+        if (this.dots == dots && (dots == 0 || this.dotColors == colors)) {
+            return;
+        }
+        this.dots = dots;
+        this.dotColors = colors;
+        invalidate();
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+        if (dots != 0) {
+            drawDots(canvas);
+        }
+        if (subLabel == null) {
+            return;
+        }
+        subLabelPaint.setTextSize(subLabelTextSize);
+        subLabelPaint.setColor(getCurrentTextColor());
+        subLabelPaint.setAlpha(Math.round(Color.alpha(getCurrentTextColor()) * SUB_LABEL_ALPHA));
+        float baseline = getHeight() - basePaddingBottom - subLabelPaint.descent();
+        canvas.drawText(subLabel, getWidth() / 2f, baseline, subLabelPaint);
+    }
+
+    private void drawDots(@NonNull Canvas canvas) {
+        float y = subLabel != null
+                ? getHeight() - basePaddingBottom - subLabelTextSize - dotRadius
+                : getHeight() - basePaddingBottom - dotMargin;
+        float x = (getWidth() - (Integer.bitCount(dots) - 1) * dotSpacing) / 2f;
+        for (int remaining = dots; remaining != 0; remaining &= remaining - 1) {
+            dotPaint.setColor(dotColors[Integer.numberOfTrailingZeros(remaining)]);
+            canvas.drawCircle(x, y, dotRadius, dotPaint);
+            x += dotSpacing;
+        }
+    }
+}
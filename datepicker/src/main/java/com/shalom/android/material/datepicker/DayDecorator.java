@@ -0,0 +1,66 @@
+package com.shalom.android.material.datepicker;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.annotation.AnyThread;
+
+/**
+ * Supplies the dots drawn under days, such as events or deadlines.
+ *
+ * <p>The calendar asks for a whole month at once, never per cell, so a decorator backed by a
+ * database makes one query per month shown, off the main thread when {@link #isAsync()} is true.
+ * Results are cached per month until {@link #getVersion()} changes. Bit {@code i} of a day's value draws a dot in
+ * {@code getDotColors()[i]}; at most {@link #MAX_DOTS} dots are drawn per day.
+ *
+ * <pre>
+ * calendar.setDayDecorator(new DayDecorator() {
+ *     public void decorate(int startEpochDay, int count, int[] out) {
+ *         eventDao.fillEventBits(startEpochDay, count, out);
+ *     }
+ *     public int[] getDotColors() {
+ *         return new int[] {Color.RED, Color.BLUE};
+ *     }
+ *     public boolean isAsync() {
+ *         return true;
+ *     }
+ * });
+ * </pre>
+ */
+public interface DayDecorator {
+
+    /** The most dots drawn under one day. */
+    int MAX_DOTS = 4;
+
+    /**
+     * Writes the decoration bits of day {@code startEpochDay + i} to {@code out[i]}, for
+     * {@code i} below {@code count}. {@code out} is zeroed beforehand. Called once per month:
+     * on a background thread if {@link #isAsync()} is true, otherwise on the main thread while
+     * the month's page is bound, so a synchronous decorator must answer from memory.
+     */
+    @AnyThread
+    void decorate(int startEpochDay, int count, @NonNull int[] out);
+
+    /**
+     * Returns the dot color for each decoration bit, lowest bit first. Read once when the
+     * decorator is set.
+     */
+    @NonNull
+    @ColorInt
+    int[] getDotColors();
+
+    /**
+     * Returns true to call {@link #decorate} off the main thread. Months render without dots
+     * until their decorations arrive. Decorators that query a database or file must return true.
+     */
+    default boolean isAsync() {
+        return false;
+    }
+
+    /**
+     * Returns a token that changes whenever the decorations do. Cached months are dropped when the
+     * calendar next binds a page or is told to refresh and sees a new token.
+     */
+    default long getVersion() {
+        return 0L;
+    }
+}
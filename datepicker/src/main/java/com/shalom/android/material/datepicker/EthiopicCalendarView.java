@@ -0,0 +1,521 @@
+package com.shalom.android.material.datepicker;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.util.AttributeSet;
+import android.util.TypedValue;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.animation.DecelerateInterpolator;
+import android.widget.Button;
+import android.widget.ImageButton;
+import android.widget.LinearLayout;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.view.OneShotPreDrawListener;
+import androidx.recyclerview.widget.GridLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.viewpager2.widget.ViewPager2;
+
+import java.util.Locale;
+
+/**
+ * An inline calendar for date selection that can be placed directly in a layout.
+ *
+ * <p>Unlike {@link MaterialCalendar} and {@link MaterialDatePicker} it needs no fragment
+ * transaction, and the selector and constraints are used as given instead of being parcelled
+ * into arguments. This makes it cheap enough to show several calendars in a scrolling screen or
+ * in {@link RecyclerView} rows. The view does not save its own state; hosts that need to survive
+ * configuration changes keep the selector and current month themselves.
+ *
+ * <pre>
+ * EthiopicCalendarView&lt;Long&gt; calendar = new EthiopicCalendarView&lt;&gt;(context);
+ * calendar.setup(new SingleDateSelector(), constraints);
+ * calendar.setOnSelectionChangedListener(selection -&gt; ...);
+ * </pre>
+ *
+ * @param <S> The type of selection (e.g., Long for single date)
+ */
+public class EthiopicCalendarView<S> extends LinearLayout {
+
+    private static final int DEFAULT_PADDING_DP = 16;
+
+    private static final int PICKER_NONE = 0;
+    private static final int PICKER_YEAR = 1;
+    private static final int PICKER_MONTH = 2;
+
+    /** Duration of the slide shown by {@link #jumpTo(Month, boolean)}. */
+    private static final long JUMP_ANIMATION_DURATION_MS = 150;
+    /** Distance the destination page slides in from, as a fraction of the pager width. */
+    private static final float JUMP_ANIMATION_OFFSET = 0.3f;
+
+    private final ViewPager2 monthsPager;
+    private final RecyclerView yearPicker;
+    private final ViewGroup daysOfWeekHeader;
+    private final Button monthYearButton;
+    private final ImageButton previousButton;
+    private final ImageButton nextButton;
+
+    @Nullable private CalendarConstraints calendarConstraints;
+    @Nullable private DateSelector<S> dateSelector;
+    @Nullable private MonthsPagerAdapter pagerAdapter;
+    @Nullable private YearGridAdapter yearAdapter;
+    @Nullable private Month currentMonth;
+    @NonNull private CalendarLabels labels;
+    /** Titles of the 13 months of {@link #titleYear}, measured in the background. */
+    @Nullable private PrecomputedLabels monthTitles;
+    /** Reapplies the header labels shown as plain strings once their layouts are measured. */
+    private final Runnable onLabelsMeasured = () -> {
+        setupDaysOfWeekHeader();
+        updateMonthYearDisplay();
+    };
+    private int titleYear;
+
+    /** Which picker replaces the month pages, one of the {@code PICKER_} constants. */
+    private int pickerMode = PICKER_NONE;
+    private boolean showGregorianDates = false;
+    private boolean renderCacheEnabled = false;
+    @Nullable private DayDecorator dayDecorator;
+    private boolean isOffscreenPageLimitDeferred = false;
+    @Nullable private MaterialCalendar.OnSelectionChangedListener<S> selectionChangedListener;
+    @Nullable private MaterialCalendar.OnSelectionEventListener<S> selectionEventListener;
+    private long selectionVersion;
+
+    public EthiopicCalendarView(@NonNull Context context) {
+        this(context, null);
+    }
+
+    public EthiopicCalendarView(@NonNull Context context, @Nullable AttributeSet attrs) {
+        this(context, attrs, 0);
+    }
+
+    public EthiopicCalendarView(@NonNull Context context, @Nullable AttributeSet attrs, int defStyleAttr) {
+        super(context, attrs, defStyleAttr);
+        setOrientation(VERTICAL);
+        if (attrs == null) {
+            int padding = Math.round(TypedValue.applyDimension(
+                    TypedValue.COMPLEX_UNIT_DIP, DEFAULT_PADDING_DP, getResources().getDisplayMetrics()));
+            setPadding(padding, padding, padding, padding);
+        }
+        LayoutInflater.from(context).inflate(R.layout.mtrl_calendar, this, true);
+
+        monthYearButton = findViewById(R.id.mtrl_picker_header_toggle);
+        previousButton = findViewById(R.id.month_navigation_previous);
+        nextButton = findViewById(R.id.month_navigation_next);
+        monthsPager = findViewById(R.id.mtrl_calendar_months);
+        yearPicker = findViewById(R.id.mtrl_calendar_year_picker);
+        daysOfWeekHeader = findViewById(R.id.mtrl_calendar_days_of_week);
+
+        labels = CalendarLabelTables.get(context);
+        setupDaysOfWeekHeader();
+
+        monthsPager.registerOnPageChangeCallback(new ViewPager2.OnPageChangeCallback() {
+            @Override
+            public void onPageSelected(int position) {
+                if (pagerAdapter != null) {
+                    currentMonth = pagerAdapter.getMonthForPosition(position);
+                    updateMonthYearDisplay();
+                }
+            }
+        });
+        monthsPager.registerOnPageChangeCallback(new SwipeFrameCounter(monthsPager));
+
+        previousButton.setOnClickListener(v -> {
+            int position = monthsPager.getCurrentItem();
+            if (position > 0) {
+                monthsPager.setCurrentItem(position - 1);
+            }
+        });
+
+        nextButton.setOnClickListener(v -> {
+            int position = monthsPager.getCurrentItem();
+            if (pagerAdapter != null && position < pagerAdapter.getItemCount() - 1) {
+                monthsPager.setCurrentItem(position + 1);
+            }
+        });
+
+        monthYearButton.setOnClickListener(
+                v -> showPicker(pickerMode == PICKER_NONE ? PICKER_YEAR : PICKER_NONE));
+    }
+
+    /**
+     * Shows the calendar for {@code dateSelector} within {@code calendarConstraints}, opening at
+     * {@link CalendarConstraints#getOpenAt()}. Calling it again with the same selector and
+     * constraints, as a rebound {@link RecyclerView} row would, keeps the existing pages.
+     */
+    public void setup(@NonNull DateSelector<S> dateSelector, @NonNull CalendarConstraints calendarConstraints) {
+        if (dateSelector == this.dateSelector && calendarConstraints == this.calendarConstraints) {
+            return;
+        }
+        this.dateSelector = dateSelector;
+        this.calendarConstraints = calendarConstraints;
+        currentMonth = calendarConstraints.getOpenAt();
+
+        if (pickerMode != PICKER_NONE) {
+            showPicker(PICKER_NONE);
+        }
+        yearAdapter = null;
+        yearPicker.setAdapter(null);
+
+        pagerAdapter = new MonthsPagerAdapter(
+                calendarConstraints, dateSelector, this::onDayClick, showGregorianDates);
+        pagerAdapter.setRenderCacheEnabled(renderCacheEnabled);
+        pagerAdapter.setDayDecorator(dayDecorator);
+        pagerAdapter.setLabels(labels);
+        monthsPager.setAdapter(pagerAdapter);
+        monthsPager.setCurrentItem(pagerAdapter.getPositionForMonth(currentMonth), false);
+        updateMonthYearDisplay();
+
+        // Bind the neighbouring pages only once the visible month has been drawn
+        if (!isOffscreenPageLimitDeferred) {
+            isOffscreenPageLimitDeferred = true;
+            OneShotPreDrawListener.add(monthsPager, () -> monthsPager.post(
+                    () -> monthsPager.setOffscreenPageLimit(1)));
+        }
+    }
+
+    /**
+     * Shows or hides the matching Gregorian date in small print below each Ethiopic day.
+     */
+    public void setShowGregorianDates(boolean showGregorianDates) {
+        this.showGregorianDates = showGregorianDates;
+        if (pagerAdapter != null) {
+            pagerAdapter.setShowGregorianDates(showGregorianDates);
+        }
+    }
+
+    public boolean isShowGregorianDates() {
+        return showGregorianDates;
+    }
+
+    /**
+     * Enables drawing nearby months into bitmaps ahead of time, so fast flings on slow devices
+     * show each page at once. Costs memory up to a fraction of the app's memory class, released
+     * when the system asks to trim memory. Off by default.
+     */
+    public void setRenderCacheEnabled(boolean renderCacheEnabled) {
+        this.renderCacheEnabled = renderCacheEnabled;
+        if (pagerAdapter != null) {
+            pagerAdapter.setRenderCacheEnabled(renderCacheEnabled);
+        }
+    }
+
+    public boolean isRenderCacheEnabled() {
+        return renderCacheEnabled;
+    }
+
+    /**
+     * Sets the decorator drawing dots under days, such as events, or removes it if
+     * {@code dayDecorator} is null. It is asked for one month at a time and its results are kept
+     * until {@link DayDecorator#getVersion()} changes.
+     */
+    public void setDayDecorator(@Nullable DayDecorator dayDecorator) {
+        this.dayDecorator = dayDecorator;
+        if (pagerAdapter != null) {
+            pagerAdapter.setDayDecorator(dayDecorator);
+        }
+    }
+
+    @Nullable
+    public DayDecorator getDayDecorator() {
+        return dayDecorator;
+    }
+
+    /**
+     * Reloads the decorations of the shown months if the decorator's version has changed. Call
+     * after changing the data behind the decorator.
+     */
+    public void notifyDecorationsChanged() {
+        if (pagerAdapter != null) {
+            pagerAdapter.notifyDecorationsChanged();
+        }
+    }
+
+    /**
+     * Switches the month and weekday names to {@code locale} and redraws, keeping the current
+     * month and selection. The names come from a table shared by the whole process, so switching
+     * back and forth only reads resources the first time each locale is used.
+     */
+    public void setLocale(@NonNull Locale locale) {
+        CalendarLabels newLabels = CalendarLabelTables.get(getContext(), locale);
+        if (newLabels == labels) {
+            return;
+        }
+        labels = newLabels;
+        setupDaysOfWeekHeader();
+        monthTitles = null;
+        updateMonthYearDisplay();
+        if (pagerAdapter != null) {
+            pagerAdapter.setLabels(labels);
+        }
+    }
+
+    /**
+     * Returns the names currently shown.
+     */
+    @NonNull
+    public CalendarLabels getLabels() {
+        return labels;
+    }
+
+    @Override
+    protected void onConfigurationChanged(Configuration newConfig) {
+        super.onConfigurationChanged(newConfig);
+        // Only reached when the activity handles locale changes itself instead of restarting
+        Locale locale = CalendarLabelTables.getLocale(newConfig);
+        if (!locale.equals(labels.getLocale())) {
+            setLocale(locale);
+        }
+    }
+
+    /**
+     * Shows {@code month} without animating, if it is within the constraints.
+     */
+    public void setCurrentMonth(@NonNull Month month) {
+        jumpTo(month, false);
+    }
+
+    /**
+     * Shows {@code month} immediately, if it is within the constraints. Only the destination page
+     * and its neighbours are bound, however many months away it is.
+     */
+    public void jumpTo(@NonNull Month month) {
+        jumpTo(month, false);
+    }
+
+    /**
+     * Shows the month containing {@code epochDay}, the number of days since 1970-01-01.
+     */
+    public void jumpTo(int epochDay) {
+        int year = EthiopicDateConverter.epochDayToEthiopicYear(epochDay);
+        int dayOfYear = epochDay - EthiopicDateConverter.ethiopicToEpochDay(year, 1, 1);
+        jumpTo(Month.create(year, dayOfYear / 30 + 1), false);
+    }
+
+    /**
+     * Shows {@code month}, if it is within the constraints. With {@code animate} the destination
+     * page slides in briefly from the direction of travel instead of scrolling through every
+     * month in between, which a smooth pager scroll would bind.
+     */
+    public void jumpTo(@NonNull Month month, boolean animate) {
+        if (pagerAdapter == null || !isWithinConstraints(month)) {
+            return;
+        }
+        int from = monthsPager.getCurrentItem();
+        int to = pagerAdapter.getPositionForMonth(month);
+        currentMonth = month;
+        // A non-smooth move scrolls the layout straight to the page, skipping the months between
+        monthsPager.setCurrentItem(to, false);
+        updateMonthYearDisplay();
+
+        if (animate && to != from && monthsPager.isLaidOut()) {
+            float direction = to > from ? 1f : -1f;
+            monthsPager.animate().cancel();
+            monthsPager.setTranslationX(direction * JUMP_ANIMATION_OFFSET * monthsPager.getWidth());
+            monthsPager.setAlpha(0f);
+            monthsPager.animate()
+                    .translationX(0f)
+                    .alpha(1f)
+                    .setDuration(JUMP_ANIMATION_DURATION_MS)
+                    .setInterpolator(new DecelerateInterpolator())
+                    .start();
+        }
+    }
+
+    /**
+     * Returns the month being shown, or null before {@link #setup} is called.
+     */
+    @Nullable
+    public Month getCurrentMonth() {
+        return currentMonth;
+    }
+
+    @Nullable
+    public DateSelector<S> getDateSelector() {
+        return dateSelector;
+    }
+
+    @Nullable
+    public CalendarConstraints getCalendarConstraints() {
+        return calendarConstraints;
+    }
+
+    public void setOnSelectionChangedListener(
+            @Nullable MaterialCalendar.OnSelectionChangedListener<S> listener) {
+        this.selectionChangedListener = listener;
+    }
+
+    public void setOnSelectionEventListener(
+            @Nullable MaterialCalendar.OnSelectionEventListener<S> listener) {
+        this.selectionEventListener = listener;
+    }
+
+    /**
+     * Returns the selection version, which increases by one with every selection change.
+     */
+    public long getSelectionVersion() {
+        return selectionVersion;
+    }
+
+    /** Restores the version counter kept by a hosting fragment. */
+    void setSelectionVersion(long selectionVersion) {
+        this.selectionVersion = selectionVersion;
+    }
+
+    /**
+     * Redraws the days after the selector was changed outside of this view.
+     */
+    public void notifySelectionChanged() {
+        if (pagerAdapter != null) {
+            pagerAdapter.rebindAllPages();
+        }
+    }
+
+    private void setupDaysOfWeekHeader() {
+        // The label views are part of the inflated layout, only their text is set here
+        String[] dayNames = labels.weekdayNamesShort();
+
+        int count = Math.min(dayNames.length, daysOfWeekHeader.getChildCount());
+        if (count == 0) {
+            return;
+        }
+        // All labels share one style, so the first one stands for every label
+        PrecomputedLabels labels = PrecomputedLabels.obtain(
+                dayNames, (TextView) daysOfWeekHeader.getChildAt(0));
+        boolean measured = true;
+        for (int i = 0; i < count; i++) {
+            measured &= labels.apply((TextView) daysOfWeekHeader.getChildAt(i), i);
+        }
+        if (!measured) {
+            labels.runWhenMeasured(onLabelsMeasured);
+        }
+    }
+
+    private void updateMonthYearDisplay() {
+        if (currentMonth == null || pagerAdapter == null) {
+            return;
+        }
+        // Display Ethiopic month name and year, measured once for all months of the year
+        if (monthTitles == null || titleYear != currentMonth.getYear()) {
+            titleYear = currentMonth.getYear();
+            monthTitles = PrecomputedLabels.obtain(createMonthTitles(titleYear), monthYearButton);
+        }
+        if (!monthTitles.apply(monthYearButton, currentMonth.getMonth() - 1)) {
+            monthTitles.runWhenMeasured(onLabelsMeasured);
+        }
+
+        // Update button states
+        int currentPosition = monthsPager.getCurrentItem();
+        previousButton.setEnabled(currentPosition > 0);
+        nextButton.setEnabled(currentPosition < pagerAdapter.getItemCount() - 1);
+    }
+
+    @NonNull
+    private String[] createMonthTitles(int year) {
+        String[] monthNames = labels.monthNames();
+        String[] titles = new String[monthNames.length];
+        for (int i = 0; i < titles.length; i++) {
+            titles[i] = monthNames[i] + " " + year;
+        }
+        return titles;
+    }
+
+    private void onDayClick(long day) {
+        if (dateSelector == null || pagerAdapter == null) {
+            return;
+        }
+        SelectionDelta delta = dateSelector.selectWithDelta(day);
+        if (delta.isEmpty()) {
+            return;
+        }
+        selectionVersion++;
+
+        // Refresh only the month views showing a changed day
+        pagerAdapter.notifyDaysChanged(delta);
+
+        // Notify listeners
+        S selection = dateSelector.getSelection();
+        if (selectionChangedListener != null) {
+            selectionChangedListener.onSelectionChanged(selection);
+        }
+        if (selectionEventListener != null) {
+            selectionEventListener.onSelectionEvent(
+                    new SelectionEvent<>(selection, delta, selectionVersion));
+        }
+    }
+
+    private void setupYearPicker() {
+        // Setup GridLayoutManager with 3 columns
+        if (yearPicker.getLayoutManager() == null) {
+            yearPicker.setLayoutManager(new GridLayoutManager(getContext(), 3));
+        }
+
+        // Setup adapter with current year
+        int currentYear = currentMonth.getYear();
+        yearAdapter = new YearGridAdapter(calendarConstraints, currentYear, this::onYearSelected);
+    }
+
+    /**
+     * Replaces the month pages with the year or month picker, or shows the pages again for
+     * {@link #PICKER_NONE}. Both pickers share one grid, only its adapter is swapped.
+     */
+    private void showPicker(int mode) {
+        if (pagerAdapter == null) {
+            return;
+        }
+        pickerMode = mode;
+
+        if (mode == PICKER_NONE) {
+            // Show calendar, hide pickers
+            monthsPager.setVisibility(View.VISIBLE);
+            daysOfWeekHeader.setVisibility(View.VISIBLE);
+            previousButton.setVisibility(View.VISIBLE);
+            nextButton.setVisibility(View.VISIBLE);
+            yearPicker.setVisibility(View.GONE);
+            return;
+        }
+
+        // Show picker, hide calendar
+        monthsPager.setVisibility(View.GONE);
+        daysOfWeekHeader.setVisibility(View.GONE);
+        previousButton.setVisibility(View.GONE);
+        nextButton.setVisibility(View.GONE);
+        yearPicker.setVisibility(View.VISIBLE);
+
+        if (mode == PICKER_YEAR) {
+            if (yearAdapter == null) {
+                setupYearPicker();
+            }
+            if (yearPicker.getAdapter() != yearAdapter) {
+                yearPicker.setAdapter(yearAdapter);
+            }
+
+            // Scroll to current year
+            int position = yearAdapter.getPositionForYear(currentMonth.getYear());
+            if (position != RecyclerView.NO_POSITION) {
+                yearPicker.scrollToPosition(position);
+            }
+        }
+    }
+
+    private void onYearSelected(int year) {
+        // Drill down to the months of the chosen year, so any month is two taps away
+        int selectedMonth = year == currentMonth.getYear() ? currentMonth.getMonth() : 0;
+        yearPicker.setAdapter(new MonthGridAdapter(
+                calendarConstraints, labels, year, selectedMonth, this::onMonthSelected));
+        showPicker(PICKER_MONTH);
+    }
+
+    private void onMonthSelected(@NonNull Month month) {
+        showPicker(PICKER_NONE);
+        jumpTo(month);
+    }
+
+    private boolean isWithinConstraints(@NonNull Month month) {
+        return month.compareTo(calendarConstraints.getStart()) >= 0
+                && month.compareTo(calendarConstraints.getEnd()) <= 0;
+    }
+}
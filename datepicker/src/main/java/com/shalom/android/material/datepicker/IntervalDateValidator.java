@@ -0,0 +1,144 @@
+package com.shalom.android.material.datepicker;
+
+import android.os.Parcel;
+
+import androidx.annotation.NonNull;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
+/**
+ * A {@link DateValidator} that blocks out a set of day ranges, for example booked dates.
+ *
+ * <p>The ranges are kept as {@link DayRanges}, merged and sorted primitive epoch days, so point
+ * queries are a binary search and a month is answered by visiting only the ranges that overlap
+ * it. The validator parcels as delta-encoded varints rather than one value per range boundary.
+ */
+public final class IntervalDateValidator implements DateValidator {
+
+    private final DayRanges blocked;
+
+    private IntervalDateValidator(@NonNull DayRanges blocked) {
+        this.blocked = blocked;
+    }
+
+    /**
+     * Creates a validator blocking every day in {@code blocked}.
+     */
+    @NonNull
+    public static IntervalDateValidator from(@NonNull DayRanges blocked) {
+        return new IntervalDateValidator(blocked);
+    }
+
+    @Override
+    public boolean isValid(long date) {
+        return !blocked.contains(Month.toEpochDay(date));
+    }
+
+    @Override
+    public void isValidRange(int startEpochDay, int count, @NonNull BitSet out) {
+        blocked.setUncovered(startEpochDay, count, out);
+    }
+
+    /**
+     * Returns true if the given epoch day falls inside a blocked range.
+     */
+    public boolean isBlocked(int epochDay) {
+        return blocked.contains(epochDay);
+    }
+
+    /**
+     * Returns the number of blocked ranges after merging.
+     */
+    public int getRangeCount() {
+        return blocked.getRangeCount();
+    }
+
+    /**
+     * Returns the blocked ranges.
+     */
+    @NonNull
+    public DayRanges getBlockedRanges() {
+        return blocked;
+    }
+
+    // Parcelable implementation
+
+    @Override
+    public int describeContents() {
+        return 0;
+    }
+
+    @Override
+    public void writeToParcel(@NonNull Parcel dest, int flags) {
+        // First start, then alternating (gap from previous end, range length) varints
+        ByteBuffer buffer = ByteBuffer.allocate(EthiopicDateCodec.encodedSize(blocked));
+        EthiopicDateCodec.putRanges(buffer, blocked);
+        dest.writeByteArray(buffer.array());
+    }
+
+    public static final Creator<IntervalDateValidator> CREATOR = new Creator<IntervalDateValidator>() {
+        @NonNull
+        @Override
+        public IntervalDateValidator createFromParcel(@NonNull Parcel source) {
+            return new IntervalDateValidator(
+                    EthiopicDateCodec.getRanges(ByteBuffer.wrap(source.createByteArray())));
+        }
+
+        @NonNull
+        @Override
+        public IntervalDateValidator[] newArray(int size) {
+            return new IntervalDateValidator[size];
+        }
+    };
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntervalDateValidator)) return false;
+        return blocked.equals(((IntervalDateValidator) o).blocked);
+    }
+
+    @Override
+    public int hashCode() {
+        return blocked.hashCode();
+    }
+
+    /**
+     * Builder for {@link IntervalDateValidator}. Ranges may be added in any order and may overlap.
+     */
+    public static final class Builder {
+
+        private final DayRanges.Builder ranges = new DayRanges.Builder();
+
+        public Builder() {}
+
+        /**
+         * Blocks all days from {@code start} to {@code end}, inclusive.
+         *
+         * @param start Timestamp in milliseconds
+         * @param end Timestamp in milliseconds
+         */
+        @NonNull
+        public Builder addRange(long start, long end) {
+            return addEpochDayRange(Month.toEpochDay(start), Month.toEpochDay(end));
+        }
+
+        /**
+         * Blocks all days from {@code startEpochDay} to {@code endEpochDay}, inclusive.
+         */
+        @NonNull
+        public Builder addEpochDayRange(int startEpochDay, int endEpochDay) {
+            ranges.add(startEpochDay, endEpochDay);
+            return this;
+        }
+
+        /**
+         * Creates an {@link IntervalDateValidator}, merging overlapping and adjacent ranges.
+         */
+        @NonNull
+        public IntervalDateValidator build() {
+            return new IntervalDateValidator(ranges.build());
+        }
+    }
+}
@@ -4,58 +4,70 @@ import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
-import android.widget.Button;
-import android.widget.GridLayout;
-import android.widget.ImageButton;
-import android.widget.TextView;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
-import androidx.recyclerview.widget.GridLayoutManager;
-import androidx.recyclerview.widget.RecyclerView;
-import androidx.viewpager2.widget.ViewPager2;
+import androidx.tracing.Trace;
 
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
 import java.util.Locale;
 
 /**
- * Fragment that displays a calendar for date selection.
+ * Fragment that displays a calendar for date selection. The calendar is an
+ * {@link EthiopicCalendarView}; use that view directly to embed a calendar without a fragment.
  */
 public class MaterialCalendar<S> extends Fragment {
 
     private static final String CALENDAR_CONSTRAINTS_KEY = "CALENDAR_CONSTRAINTS_KEY";
     private static final String DATE_SELECTOR_KEY = "DATE_SELECTOR_KEY";
     private static final String CURRENT_MONTH_KEY = "CURRENT_MONTH_KEY";
+    private static final String SELECTION_VERSION_KEY = "SELECTION_VERSION_KEY";
+    private static final String SHOW_GREGORIAN_DATES_KEY = "SHOW_GREGORIAN_DATES_KEY";
+    private static final String RENDER_CACHE_ENABLED_KEY = "RENDER_CACHE_ENABLED_KEY";
 
     private CalendarConstraints calendarConstraints;
     private DateSelector<S> dateSelector;
     private Month currentMonth;
+    private boolean showGregorianDates;
+    private boolean renderCacheEnabled;
+    @Nullable private DayDecorator dayDecorator;
 
-    private ViewPager2 monthsPager;
-    private MonthsPagerAdapter pagerAdapter;
-    private RecyclerView yearPicker;
-    private YearGridAdapter yearAdapter;
-    private GridLayout daysOfWeekHeader;
-    private Button monthYearButton;
-    private ImageButton previousButton;
-    private ImageButton nextButton;
+    @Nullable private EthiopicCalendarView<S> calendarView;
 
-    private boolean isYearPickerVisible = false;
     private OnSelectionChangedListener<S> selectionChangedListener;
+    private OnSelectionEventListener<S> selectionEventListener;
+    private long selectionVersion;
 
     public interface OnSelectionChangedListener<S> {
         void onSelectionChanged(S selection);
     }
 
+    /**
+     * Receives each selection change with the exact days added and removed. Not called for taps
+     * that leave the selection unchanged.
+     */
+    public interface OnSelectionEventListener<S> {
+        void onSelectionEvent(@NonNull SelectionEvent<S> event);
+    }
+
     public static <S> MaterialCalendar<S> newInstance(
             @NonNull DateSelector<S> dateSelector,
             @NonNull CalendarConstraints calendarConstraints) {
+        return newInstance(dateSelector, calendarConstraints, false);
+    }
+
+    /**
+     * @param showGregorianDates whether each day also shows the matching Gregorian date
+     */
+    public static <S> MaterialCalendar<S> newInstance(
+            @NonNull DateSelector<S> dateSelector,
+            @NonNull CalendarConstraints calendarConstraints,
+            boolean showGregorianDates) {
         MaterialCalendar<S> calendar = new MaterialCalendar<>();
         Bundle args = new Bundle();
         args.putParcelable(DATE_SELECTOR_KEY, dateSelector);
         args.putParcelable(CALENDAR_CONSTRAINTS_KEY, calendarConstraints);
+        args.putBoolean(SHOW_GREGORIAN_DATES_KEY, showGregorianDates);
         calendar.setArguments(args);
         return calendar;
     }
@@ -69,6 +81,9 @@ public class MaterialCalendar<S> extends Fragment {
             dateSelector = args.getParcelable(DATE_SELECTOR_KEY);
             calendarConstraints = args.getParcelable(CALENDAR_CONSTRAINTS_KEY);
             currentMonth = args.getParcelable(CURRENT_MONTH_KEY);
+            selectionVersion = args.getLong(SELECTION_VERSION_KEY);
+            showGregorianDates = args.getBoolean(SHOW_GREGORIAN_DATES_KEY);
+            renderCacheEnabled = args.getBoolean(RENDER_CACHE_ENABLED_KEY);
         }
 
         if (currentMonth == null) {
@@ -80,109 +95,92 @@ public class MaterialCalendar<S> extends Fragment {
     @Override
     public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container,
                              @Nullable Bundle savedInstanceState) {
-        View root = inflater.inflate(R.layout.mtrl_calendar, container, false);
-
-        monthYearButton = root.findViewById(R.id.mtrl_picker_header_toggle);
-        previousButton = root.findViewById(R.id.month_navigation_previous);
-        nextButton = root.findViewById(R.id.month_navigation_next);
-        monthsPager = root.findViewById(R.id.mtrl_calendar_months);
-        yearPicker = root.findViewById(R.id.mtrl_calendar_year_picker);
-        daysOfWeekHeader = root.findViewById(R.id.mtrl_calendar_days_of_week);
-
-        // Setup days of week header
-        setupDaysOfWeekHeader(root);
-
-        // Setup year picker
-        setupYearPicker();
-
-        // Setup ViewPager
-        pagerAdapter = new MonthsPagerAdapter(
-                calendarConstraints,
-                dateSelector,
-                this::onDayClick
-        );
-        monthsPager.setAdapter(pagerAdapter);
-
-        // Set current month
-        int currentPosition = pagerAdapter.getPositionForMonth(currentMonth);
-        monthsPager.setCurrentItem(currentPosition, false);
-
-        // Update month/year display
-        updateMonthYearDisplay();
-
-        // Setup listeners
-        monthsPager.registerOnPageChangeCallback(new ViewPager2.OnPageChangeCallback() {
-            @Override
-            public void onPageSelected(int position) {
-                currentMonth = pagerAdapter.getMonthForPosition(position);
-                updateMonthYearDisplay();
-            }
-        });
+        Trace.beginSection("MaterialCalendar.onCreateView");
+        try {
+            return createView(inflater, container);
+        } finally {
+            Trace.endSection();
+        }
+    }
 
-        previousButton.setOnClickListener(v -> {
-            int position = monthsPager.getCurrentItem();
-            if (position > 0) {
-                monthsPager.setCurrentItem(position - 1);
+    private View createView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container) {
+        // The calendar itself is an EthiopicCalendarView; this fragment only keeps its state
+        calendarView = new EthiopicCalendarView<>(inflater.getContext());
+        calendarView.setLayoutParams(new ViewGroup.LayoutParams(
+                ViewGroup.LayoutParams.MATCH_PARENT,
+                ViewGroup.LayoutParams.WRAP_CONTENT));
+        calendarView.setSelectionVersion(selectionVersion);
+        calendarView.setShowGregorianDates(showGregorianDates);
+        calendarView.setRenderCacheEnabled(renderCacheEnabled);
+        calendarView.setDayDecorator(dayDecorator);
+        calendarView.setup(dateSelector, calendarConstraints);
+        calendarView.setCurrentMonth(currentMonth);
+        calendarView.setOnSelectionChangedListener(selection -> {
+            if (selectionChangedListener != null) {
+                selectionChangedListener.onSelectionChanged(selection);
             }
         });
-
-        nextButton.setOnClickListener(v -> {
-            int position = monthsPager.getCurrentItem();
-            if (position < pagerAdapter.getItemCount() - 1) {
-                monthsPager.setCurrentItem(position + 1);
+        calendarView.setOnSelectionEventListener(event -> {
+            selectionVersion = event.getVersion();
+            if (selectionEventListener != null) {
+                selectionEventListener.onSelectionEvent(event);
             }
         });
-
-        monthYearButton.setOnClickListener(v -> toggleYearPicker());
-
-        return root;
+        return calendarView;
     }
 
-    private void setupDaysOfWeekHeader(View root) {
-        GridLayout daysOfWeek = root.findViewById(R.id.mtrl_calendar_days_of_week);
-
-        // Use weekday names from string resources (supports localization)
-        String[] dayNames = requireContext().getResources().getStringArray(R.array.weekday_names_short);
-
-        for (String dayName : dayNames) {
-            TextView dayView = new TextView(requireContext());
-            dayView.setText(dayName);
-            dayView.setGravity(android.view.Gravity.CENTER);
-            dayView.setTextSize(12);
-            dayView.setLayoutParams(new GridLayout.LayoutParams(
-                    GridLayout.spec(GridLayout.UNDEFINED, 1f),
-                    GridLayout.spec(GridLayout.UNDEFINED, 1f)
-            ));
-            daysOfWeek.addView(dayView);
+    /**
+     * Switches the calendar's names to {@code locale} without recreating the fragment, see
+     * {@link EthiopicCalendarView#setLocale}.
+     */
+    public void setLocale(@NonNull Locale locale) {
+        if (calendarView != null) {
+            calendarView.setLocale(locale);
         }
     }
 
-    private void updateMonthYearDisplay() {
-        // Display Ethiopic month name and year
-        String[] monthNames = requireContext().getResources().getStringArray(R.array.ethiopian_months);
-        String monthName = (currentMonth.getMonth() >= 1 && currentMonth.getMonth() <= 13)
-                ? monthNames[currentMonth.getMonth() - 1]
-                : "";
-
-        String displayText = monthName + " " + currentMonth.getYear();
-        monthYearButton.setText(displayText);
-
-        // Update button states
-        int currentPosition = monthsPager.getCurrentItem();
-        previousButton.setEnabled(currentPosition > 0);
-        nextButton.setEnabled(currentPosition < pagerAdapter.getItemCount() - 1);
+    /**
+     * Shows {@code month}, binding only its page and neighbours, see
+     * {@link EthiopicCalendarView#jumpTo(Month, boolean)}.
+     */
+    public void jumpTo(@NonNull Month month, boolean animate) {
+        if (calendarView != null) {
+            calendarView.jumpTo(month, animate);
+        } else {
+            currentMonth = month;
+        }
     }
 
-    private void onDayClick(long day) {
-        dateSelector.select(day);
+    /**
+     * Enables the page render cache, see {@link EthiopicCalendarView#setRenderCacheEnabled}.
+     * Must be called before the fragment's view is created.
+     */
+    public void setRenderCacheEnabled(boolean renderCacheEnabled) {
+        this.renderCacheEnabled = renderCacheEnabled;
+        Bundle args = getArguments();
+        if (args != null) {
+            args.putBoolean(RENDER_CACHE_ENABLED_KEY, renderCacheEnabled);
+        }
+    }
 
-        // Refresh the current month view to show selection
-        int currentPosition = monthsPager.getCurrentItem();
-        pagerAdapter.notifyDataSetChanged(currentPosition);
+    /**
+     * Sets the decorator drawing dots under days, see {@link EthiopicCalendarView#setDayDecorator}.
+     * Like the listeners it is not saved, so set it again after the fragment is recreated.
+     */
+    public void setDayDecorator(@Nullable DayDecorator dayDecorator) {
+        this.dayDecorator = dayDecorator;
+        if (calendarView != null) {
+            calendarView.setDayDecorator(dayDecorator);
+        }
+    }
 
-        // Notify listener
-        if (selectionChangedListener != null) {
-            selectionChangedListener.onSelectionChanged(dateSelector.getSelection());
+    /**
+     * Reloads decorations whose version has changed, see
+     * {@link EthiopicCalendarView#notifyDecorationsChanged()}.
+     */
+    public void notifyDecorationsChanged() {
+        if (calendarView != null) {
+            calendarView.notifyDecorationsChanged();
         }
     }
 
@@ -190,72 +188,43 @@ public class MaterialCalendar<S> extends Fragment {
         this.selectionChangedListener = listener;
     }
 
-    private void setupYearPicker() {
-        // Setup GridLayoutManager with 3 columns
-        GridLayoutManager layoutManager = new GridLayoutManager(requireContext(), 3);
-        yearPicker.setLayoutManager(layoutManager);
-
-        // Setup adapter with current year
-        int currentYear = currentMonth.getYear();
-        yearAdapter = new YearGridAdapter(currentYear, this::onYearSelected);
-        yearPicker.setAdapter(yearAdapter);
+    public void setOnSelectionEventListener(OnSelectionEventListener<S> listener) {
+        this.selectionEventListener = listener;
     }
 
-    private void toggleYearPicker() {
-        isYearPickerVisible = !isYearPickerVisible;
-
-        if (isYearPickerVisible) {
-            // Show year picker, hide calendar
-            monthsPager.setVisibility(View.GONE);
-            daysOfWeekHeader.setVisibility(View.GONE);
-            previousButton.setVisibility(View.GONE);
-            nextButton.setVisibility(View.GONE);
-            yearPicker.setVisibility(View.VISIBLE);
-
-            // Scroll to current year
-            int currentYear = currentMonth.getYear();
-            int position = yearAdapter.getPositionForYear(currentYear);
-            yearPicker.scrollToPosition(position);
-        } else {
-            // Show calendar, hide year picker
-            monthsPager.setVisibility(View.VISIBLE);
-            daysOfWeekHeader.setVisibility(View.VISIBLE);
-            previousButton.setVisibility(View.VISIBLE);
-            nextButton.setVisibility(View.VISIBLE);
-            yearPicker.setVisibility(View.GONE);
-        }
+    /**
+     * Returns the selection version, which increases by one with every selection change.
+     */
+    public long getSelectionVersion() {
+        return selectionVersion;
     }
 
-    private void onYearSelected(int year) {
-        // Calculate the selected month in the new year
-        Month newMonth = Month.create(year, currentMonth.getMonth());
-
-        // Check if the new month is within constraints
-        if (newMonth.compareTo(calendarConstraints.getStart()) >= 0 &&
-                newMonth.compareTo(calendarConstraints.getEnd()) <= 0) {
-            currentMonth = newMonth;
-
-            // Update the ViewPager to show the new month
-            int newPosition = pagerAdapter.getPositionForMonth(currentMonth);
-            monthsPager.setCurrentItem(newPosition, false);
-
-            // Update display
-            updateMonthYearDisplay();
-        }
-
-        // Close year picker
-        toggleYearPicker();
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        saveCurrentMonth();
+        calendarView = null;
     }
 
     @Override
     public void onSaveInstanceState(@NonNull Bundle outState) {
         super.onSaveInstanceState(outState);
+        saveCurrentMonth();
         outState.putParcelable(CALENDAR_CONSTRAINTS_KEY, calendarConstraints);
         outState.putParcelable(DATE_SELECTOR_KEY, dateSelector);
         outState.putParcelable(CURRENT_MONTH_KEY, currentMonth);
+        outState.putLong(SELECTION_VERSION_KEY, selectionVersion);
+        outState.putBoolean(SHOW_GREGORIAN_DATES_KEY, showGregorianDates);
+        outState.putBoolean(RENDER_CACHE_ENABLED_KEY, renderCacheEnabled);
     }
 
     public DateSelector<S> getDateSelector() {
         return dateSelector;
     }
+
+    private void saveCurrentMonth() {
+        if (calendarView != null && calendarView.getCurrentMonth() != null) {
+            currentMonth = calendarView.getCurrentMonth();
+        }
+    }
 }
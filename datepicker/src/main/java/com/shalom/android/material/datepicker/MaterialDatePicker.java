@@ -3,6 +3,7 @@ package com.shalom.android.material.datepicker;
 import android.app.Dialog;
 import android.content.Context;
 import android.content.DialogInterface;
+import android.content.res.Configuration;
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -13,13 +14,16 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.RestrictTo;
 import androidx.annotation.StringRes;
+import androidx.core.view.OneShotPreDrawListener;
 import androidx.fragment.app.DialogFragment;
 import androidx.fragment.app.FragmentManager;
+import androidx.tracing.Trace;
 
 import com.google.android.material.dialog.MaterialAlertDialogBuilder;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * A {@link Dialog} with a header, {@link MaterialCalendar}, and set of actions.
@@ -33,6 +37,8 @@ public final class MaterialDatePicker<S> extends DialogFragment {
     private static final String TITLE_TEXT_RES_ID_KEY = "TITLE_TEXT_RES_ID_KEY";
     private static final String DATE_SELECTOR_KEY = "DATE_SELECTOR_KEY";
     private static final String CALENDAR_CONSTRAINTS_KEY = "CALENDAR_CONSTRAINTS_KEY";
+    private static final String SHOW_GREGORIAN_DATES_KEY = "SHOW_GREGORIAN_DATES_KEY";
+    private static final String RENDER_CACHE_ENABLED_KEY = "RENDER_CACHE_ENABLED_KEY";
 
     @Nullable
     private DateSelector<S> dateSelector;
@@ -46,6 +52,10 @@ public final class MaterialDatePicker<S> extends DialogFragment {
     @StringRes
     private int titleTextResId = 0;
 
+    private boolean showGregorianDates;
+
+    private boolean renderCacheEnabled;
+
     private final List<MaterialPickerOnPositiveButtonClickListener<? super S>>
             onPositiveButtonClickListeners = new ArrayList<>();
 
@@ -72,6 +82,8 @@ public final class MaterialDatePicker<S> extends DialogFragment {
         private CharSequence titleText;
         @StringRes private int titleTextResId = 0;
         private S selection;
+        private boolean showGregorianDates;
+        private boolean renderCacheEnabled;
 
         private Builder(@NonNull DateSelector<S> dateSelector) {
             this.dateSelector = dateSelector;
@@ -115,6 +127,26 @@ public final class MaterialDatePicker<S> extends DialogFragment {
             return this;
         }
 
+        /**
+         * Sets whether each day also shows the matching Gregorian date, as on Ethiopian wall
+         * calendars. Off by default.
+         */
+        @NonNull
+        public Builder<S> setShowGregorianDates(boolean showGregorianDates) {
+            this.showGregorianDates = showGregorianDates;
+            return this;
+        }
+
+        /**
+         * Sets whether nearby months are drawn into bitmaps ahead of time, which keeps fast flings
+         * smooth on slow devices at the cost of memory. Off by default.
+         */
+        @NonNull
+        public Builder<S> setRenderCacheEnabled(boolean renderCacheEnabled) {
+            this.renderCacheEnabled = renderCacheEnabled;
+            return this;
+        }
+
         /**
          * Creates a {@link MaterialDatePicker} with the provided options.
          */
@@ -135,13 +167,24 @@ public final class MaterialDatePicker<S> extends DialogFragment {
             materialDatePicker.calendarConstraints = calendarConstraints;
             materialDatePicker.titleText = titleText;
             materialDatePicker.titleTextResId = titleTextResId;
+            materialDatePicker.showGregorianDates = showGregorianDates;
+            materialDatePicker.renderCacheEnabled = renderCacheEnabled;
 
             return materialDatePicker;
         }
     }
 
     private MaterialCalendar<S> materialCalendar;
+    @Nullable private DayDecorator dayDecorator;
     private TextView headerSelectionText;
+    @NonNull private CalendarLabels labels = CalendarLabels.current();
+    private long createdNanos;
+
+    @Override
+    public void onCreate(@Nullable Bundle savedInstanceState) {
+        createdNanos = PickerMetrics.start();
+        super.onCreate(savedInstanceState);
+    }
 
     @Nullable
     @Override
@@ -149,12 +192,31 @@ public final class MaterialDatePicker<S> extends DialogFragment {
             @NonNull LayoutInflater inflater,
             @Nullable ViewGroup container,
             @Nullable Bundle savedInstanceState) {
+        Trace.beginSection("MaterialDatePicker.onCreateView");
+        try {
+            return createView(inflater, container, savedInstanceState);
+        } finally {
+            Trace.endSection();
+        }
+    }
+
+    private View createView(
+            @NonNull LayoutInflater inflater,
+            @Nullable ViewGroup container,
+            @Nullable Bundle savedInstanceState) {
 
         if (savedInstanceState != null) {
             restoreState(savedInstanceState);
         }
 
+        labels = CalendarLabelTables.get(requireContext());
         View root = inflater.inflate(R.layout.mtrl_picker_dialog, container, false);
+        if (createdNanos != 0L) {
+            OneShotPreDrawListener.add(root, () -> {
+                PickerMetrics.pickerFirstDraw(createdNanos);
+                createdNanos = 0L;
+            });
+        }
 
         // Setup header
         TextView titleTextView = root.findViewById(R.id.mtrl_picker_title_text);
@@ -167,8 +229,11 @@ public final class MaterialDatePicker<S> extends DialogFragment {
         updateHeaderSelection();
 
         // Create and add MaterialCalendar fragment
-        materialCalendar = MaterialCalendar.newInstance(dateSelector, calendarConstraints);
-        materialCalendar.setOnSelectionChangedListener(selection -> {
+        materialCalendar = MaterialCalendar.newInstance(dateSelector, calendarConstraints, showGregorianDates);
+        materialCalendar.setRenderCacheEnabled(renderCacheEnabled);
+        materialCalendar.setDayDecorator(dayDecorator);
+        // Events only arrive when the selection actually changed
+        materialCalendar.setOnSelectionEventListener(event -> {
             updateHeaderSelection();
         });
 
@@ -206,11 +271,43 @@ public final class MaterialDatePicker<S> extends DialogFragment {
         return dialog;
     }
 
+    /**
+     * Sets the decorator drawing dots under days, see {@link EthiopicCalendarView#setDayDecorator}.
+     * Like the button listeners it is not saved, so set it again after the dialog is recreated.
+     */
+    public void setDayDecorator(@Nullable DayDecorator dayDecorator) {
+        this.dayDecorator = dayDecorator;
+        if (materialCalendar != null) {
+            materialCalendar.setDayDecorator(dayDecorator);
+        }
+    }
+
+    /**
+     * Switches the calendar to {@code locale} and reformats the selected date, without
+     * recreating the dialog.
+     */
+    public void setLocale(@NonNull Locale locale) {
+        if (materialCalendar != null) {
+            materialCalendar.setLocale(locale);
+        }
+        if (getContext() != null) {
+            labels = CalendarLabelTables.get(requireContext(), locale);
+        }
+        updateHeaderSelection();
+    }
+
+    @Override
+    public void onConfigurationChanged(@NonNull Configuration newConfig) {
+        super.onConfigurationChanged(newConfig);
+        // Only reached when the activity handles locale changes itself instead of restarting
+        setLocale(CalendarLabelTables.getLocale(newConfig));
+    }
+
     private void updateHeaderSelection() {
         if (headerSelectionText != null && dateSelector != null) {
-            String selectionText = dateSelector.getSelectionDisplayString();
+            String selectionText = dateSelector.getSelectionDisplayString(labels);
             if (selectionText.isEmpty()) {
-                headerSelectionText.setText("Select a date");
+                headerSelectionText.setText(labels.getSelectionPrompt());
             } else {
                 headerSelectionText.setText(selectionText);
             }
@@ -224,6 +321,8 @@ public final class MaterialDatePicker<S> extends DialogFragment {
         bundle.putParcelable(CALENDAR_CONSTRAINTS_KEY, calendarConstraints);
         bundle.putCharSequence(TITLE_TEXT_KEY, titleText);
         bundle.putInt(TITLE_TEXT_RES_ID_KEY, titleTextResId);
+        bundle.putBoolean(SHOW_GREGORIAN_DATES_KEY, showGregorianDates);
+        bundle.putBoolean(RENDER_CACHE_ENABLED_KEY, renderCacheEnabled);
     }
 
     private void restoreState(Bundle bundle) {
@@ -231,6 +330,8 @@ public final class MaterialDatePicker<S> extends DialogFragment {
         calendarConstraints = bundle.getParcelable(CALENDAR_CONSTRAINTS_KEY);
         titleText = bundle.getCharSequence(TITLE_TEXT_KEY);
         titleTextResId = bundle.getInt(TITLE_TEXT_RES_ID_KEY);
+        showGregorianDates = bundle.getBoolean(SHOW_GREGORIAN_DATES_KEY);
+        renderCacheEnabled = bundle.getBoolean(RENDER_CACHE_ENABLED_KEY);
     }
 
     @Override
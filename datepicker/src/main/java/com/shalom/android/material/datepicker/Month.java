@@ -5,32 +5,37 @@ import android.os.Parcelable;
 
 import androidx.annotation.NonNull;
 
-import org.threeten.extra.chrono.EthiopicDate;
-
-import java.time.Instant;
-import java.time.LocalDate;
 import java.time.ZoneId;
-import java.time.temporal.ChronoField;
-import java.time.temporal.ChronoUnit;
 
 /**
  * Represents a month in the Ethiopic calendar.
- * Uses threeten-extra library for Ethiopic date support.
+ * Uses the library's own {@link EthiopicLocalDate} arithmetic, no general chronology.
  */
 public class Month implements Comparable<Month>, Parcelable {
 
-//    static final ZoneId TIME_ZONE = ZoneId.of("Africa/Nairobi");
-    static final ZoneId TIME_ZONE = ZoneId.systemDefault();
-//    public static final ZoneId TIME_ZONE = ZoneId.of("UTC");//ZoneId.systemDefault();//
+    static final ZoneId TIME_ZONE = EpochDays.TIME_ZONE;
 
-    private final EthiopicDate ethiopicMonthStart;
+    private static final int MONTHS_PER_YEAR = 13;
 
-    private Month(int year, int month) {
-        this.ethiopicMonthStart = EthiopicDate.of(year, month, 1);
-    }
+    // Derived once so position math, comparisons and bounds checks never allocate
+    private final int year;
+    private final int month;
+    private final int daysInMonth;
+    private final int startEpochDay;
+    private final int startDayOfWeek;
+    private final long timeInMillis;
 
-    private Month(EthiopicDate monthStartDate) {
-        this.ethiopicMonthStart = monthStartDate.with(ChronoField.DAY_OF_MONTH, 1);
+    private Month(int year, int month) {
+        if (month < 1 || month > MONTHS_PER_YEAR) {
+            throw new IllegalArgumentException("Invalid Ethiopic month: " + month);
+        }
+        this.year = year;
+        this.month = month;
+        this.daysInMonth = EthiopicDateConverter.getEthiopicMonthDays(year, month);
+        this.startEpochDay = EthiopicDateConverter.ethiopicToEpochDay(year, month, 1);
+        this.startDayOfWeek = EthiopicDateConverter.dayOfWeek(startEpochDay);
+        this.timeInMillis = toTimeInMillis(startEpochDay);
+        PickerMetrics.monthCreated();
     }
 
     public static Month create(int year, int month) {
@@ -38,55 +43,83 @@ public class Month implements Comparable<Month>, Parcelable {
     }
 
     public static Month create(long timeInMillis) {
-        EthiopicDate ethiopicDate = EthiopicDate.from(
-                Instant.ofEpochMilli(timeInMillis).atZone(TIME_ZONE)
-        );
-        return new Month(ethiopicDate);
+        return from(EthiopicLocalDate.ofTimeInMillis(timeInMillis));
+    }
+
+    /** Creates the month containing {@code date}. */
+    public static Month from(@NonNull EthiopicLocalDate date) {
+        return new Month(date.getYear(), date.getMonth());
     }
 
     /** Creates the current month in Ethiopic calendar. */
     public static Month current() {
-        EthiopicDate ethiopicDate = EthiopicDate.now(TIME_ZONE);
-        return new Month(ethiopicDate);
+        return from(EthiopicLocalDate.now(TIME_ZONE));
+    }
+
+    /**
+     * Returns day {@code day} of this month.
+     */
+    @NonNull
+    public EthiopicLocalDate atDay(int day) {
+        return EthiopicLocalDate.of(year, month, day);
     }
 
     public long getTimeInMillis() {
-        LocalDate gregorianDate = LocalDate.from(ethiopicMonthStart);
-        return gregorianDate.atStartOfDay(TIME_ZONE).toInstant().toEpochMilli();
+        return timeInMillis;
     }
 
     public int getMonth() {
-        return ethiopicMonthStart.get(ChronoField.MONTH_OF_YEAR);
+        return month;
     }
 
     public int getYear() {
-        return ethiopicMonthStart.get(ChronoField.YEAR);
+        return year;
     }
 
     public int getDaysInMonth() {
-        return ethiopicMonthStart.lengthOfMonth();
+        return daysInMonth;
     }
 
     public int getStartDayOfWeek() {
-        return ethiopicMonthStart.get(ChronoField.DAY_OF_WEEK);
+        return startDayOfWeek;
+    }
+
+    /**
+     * Returns the epoch day (days since 1970-01-01) of the first day of this month.
+     */
+    public int getStartEpochDay() {
+        return startEpochDay;
     }
 
     public Month monthsLater(int months) {
-        EthiopicDate nextMonth = ethiopicMonthStart.plus(months, ChronoUnit.MONTHS)
-                .with(ChronoField.DAY_OF_MONTH, 1);
-        return new Month(nextMonth);
+        int index = year * MONTHS_PER_YEAR + (month - 1) + months;
+        return new Month(Math.floorDiv(index, MONTHS_PER_YEAR), Math.floorMod(index, MONTHS_PER_YEAR) + 1);
     }
 
     public int monthsUntil(Month end) {
-        return (int) ethiopicMonthStart.until(end.ethiopicMonthStart, ChronoUnit.MONTHS);
+        return (end.year - year) * MONTHS_PER_YEAR + (end.month - month);
+    }
+
+    /**
+     * Converts a timestamp to the epoch day it falls on in {@link #TIME_ZONE}.
+     */
+    static int toEpochDay(long timeInMillis) {
+        return EpochDays.fromTimeInMillis(timeInMillis);
+    }
+
+    /**
+     * Converts an epoch day to the timestamp of its start in {@link #TIME_ZONE}.
+     */
+    static long toTimeInMillis(long epochDay) {
+        return EpochDays.toTimeInMillis(epochDay);
     }
 
     // ===================== Comparable =====================
     @Override
     public int compareTo(@NonNull Month other) {
-        int yearComparison = Integer.compare(this.getYear(), other.getYear());
+        int yearComparison = Integer.compare(this.year, other.year);
         if (yearComparison != 0) return yearComparison;
-        return Integer.compare(this.getMonth(), other.getMonth());
+        return Integer.compare(this.month, other.month);
     }
 
     // ===================== Equals & HashCode =====================
@@ -95,12 +128,12 @@ public class Month implements Comparable<Month>, Parcelable {
         if (this == o) return true;
         if (!(o instanceof Month)) return false;
         Month other = (Month) o;
-        return this.getYear() == other.getYear() && this.getMonth() == other.getMonth();
+        return this.year == other.year && this.month == other.month;
     }
 
     @Override
     public int hashCode() {
-        return 31 * getYear() + getMonth();
+        return 31 * year + month;
     }
 
     // ===================== Parcelable =====================
@@ -2,149 +2,275 @@ package com.shalom.android.material.datepicker;
 
 import android.content.Context;
 import android.graphics.Color;
+import android.graphics.drawable.Drawable;
 import android.graphics.drawable.GradientDrawable;
-import android.util.Log;
 import android.util.TypedValue;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
-import android.widget.TextView;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.RecyclerView;
 
-import org.threeten.extra.chrono.EthiopicDate;
-
-import java.time.DayOfWeek;
-import java.time.Instant;
-import java.time.LocalDate;
-import java.time.ZoneId;
-import java.time.temporal.ChronoField;
-import java.time.temporal.TemporalField;
-import java.util.Calendar;
-import java.util.Collection;
+import java.util.BitSet;
 
 /**
  * Adapter for displaying days in a month grid.
  */
 public class MonthAdapter extends RecyclerView.Adapter<MonthAdapter.DayViewHolder> {
 
-    private static final String TAG = "MonthAdapter";
-    private final Month month;
-    private final DateSelector<?> dateSelector;
-    private final CalendarConstraints calendarConstraints;
-    private final OnDayClickListener onDayClickListener;
-    private final int firstDayOfWeek;
+    private static final float PENDING_ALPHA = 0.38f;
+    private static final int IN_RANGE_ALPHA = 0x33000000;
+    /** 6 rows of 7 days. */
+    private static final int CELL_COUNT = 42;
+
+    // Bits of a packed cell state, see cellState()
+    private static final int CELL_VALID = 1;
+    private static final int CELL_PENDING = 1 << 1;
+    private static final int CELL_DAY_STATE_SHIFT = 2;
+    private static final int CELL_DOTS_SHIFT = 8;
+
+    private MonthModel model;
+    private DateSelector<?> dateSelector;
+    @Nullable private OnDayClickListener onDayClickListener;
+    @Nullable private BitSet validDays;
+    @Nullable private int[] decorations;
+    @Nullable private int[] dotColors;
+    private int monthStartEpochDay;
+    private int firstDayOffset;
+    private int daysInMonth;
+    /** What each cell was last bound with, so an update rebinds only the cells that differ. */
+    private final int[] cellStates = new int[CELL_COUNT];
+    /** Selection state of each day of the month, asked of the selector once per update. */
+    private final int[] dayStates = new int[CELL_COUNT];
+
+    // Templates for the cell backgrounds; each cell draws its own copy, see DayViewHolder
+    @Nullable private GradientDrawable selectedBackground;
+    @Nullable private GradientDrawable inRangeBackground;
+    @Nullable private PrecomputedLabels dayLabels;
 
     public interface OnDayClickListener {
         void onDayClick(long day);
     }
 
-
     public MonthAdapter(
             @NonNull Month month,
             @Nullable DateSelector<?> dateSelector,
-            @NonNull CalendarConstraints calendarConstraints,
+            @Nullable BitSet validDays,
+            @Nullable OnDayClickListener onDayClickListener) {
+        this(MonthModel.create(month), dateSelector, validDays, null, null, onDayClickListener);
+    }
+
+    MonthAdapter(
+            @NonNull MonthModel model,
+            @Nullable DateSelector<?> dateSelector,
+            @Nullable BitSet validDays,
+            @Nullable int[] decorations,
+            @Nullable int[] dotColors,
             @Nullable OnDayClickListener onDayClickListener) {
-        this.month = month;
+        setModel(model, dotColors);
         this.dateSelector = dateSelector;
-        this.calendarConstraints = calendarConstraints;
+        this.validDays = validDays;
+        this.decorations = decorations;
         this.onDayClickListener = onDayClickListener;
-        this.firstDayOfWeek =   DayOfWeek.MONDAY.getValue();// Calendar.MONDAY;//calendar is wrong, we are using Time
+        fillDayStates();
+        computeCellStates(cellStates);
+    }
+
+    /**
+     * Shows new data in the existing cells. When the month, its labels or the dot colors change
+     * every cell is rebound; otherwise only the cells whose validity, selection state or dots
+     * differ from what they show are.
+     */
+    void update(
+            @NonNull MonthModel model,
+            @Nullable DateSelector<?> dateSelector,
+            @Nullable BitSet validDays,
+            @Nullable int[] decorations,
+            @Nullable int[] dotColors,
+            @Nullable OnDayClickListener onDayClickListener) {
+        boolean sameCells = model == this.model && dotColors == this.dotColors;
+        setModel(model, dotColors);
+        this.dateSelector = dateSelector;
+        this.validDays = validDays;
+        this.decorations = decorations;
+        this.onDayClickListener = onDayClickListener;
+
+        if (!sameCells) {
+            refresh();
+            return;
+        }
+        fillDayStates();
+        for (int position = firstDayOffset; position < firstDayOffset + daysInMonth; position++) {
+            int state = cellState(position);
+            if (state != cellStates[position]) {
+                cellStates[position] = state;
+                notifyItemChanged(position);
+            }
+        }
+    }
+
+    /** Rebinds every cell, for example after the selector changed without a delta. */
+    void refresh() {
+        fillDayStates();
+        computeCellStates(cellStates);
+        notifyItemRangeChanged(0, CELL_COUNT);
+    }
+
+    private void setModel(@NonNull MonthModel model, @Nullable int[] dotColors) {
+        this.model = model;
+        this.dotColors = dotColors;
+        this.monthStartEpochDay = model.getMonth().getStartEpochDay();
+        this.firstDayOffset = model.getFirstDayOffset();
+        this.daysInMonth = model.getMonth().getDaysInMonth();
+    }
+
+    private void fillDayStates() {
+        if (dateSelector != null) {
+            dateSelector.fillDayStates(monthStartEpochDay, daysInMonth, dayStates);
+        }
+    }
+
+    private void computeCellStates(@NonNull int[] out) {
+        for (int position = 0; position < CELL_COUNT; position++) {
+            out[position] = cellState(position);
+        }
+    }
+
+    /** Packs everything a day cell shows besides its labels into one int. */
+    private int cellState(int position) {
+        if (position < firstDayOffset || position >= firstDayOffset + daysInMonth) {
+            return 0;
+        }
+        int day = position - firstDayOffset + 1;
+
+        // Validity is computed once per month; null means it is still loading
+        int state = validDays == null
+                ? CELL_PENDING
+                : (validDays.get(day - 1) ? CELL_VALID : 0);
+
+        // Selection states are asked of the selector once per month, see fillDayStates()
+        if (dateSelector != null) {
+            state |= dayStates[day - 1] << CELL_DAY_STATE_SHIFT;
+        }
+
+        // Decorations are loaded once per month, the cell only draws its bits. Bits without a
+        // color never draw, so they are dropped before they can make the cell look changed.
+        if (decorations != null && dotColors != null) {
+            state |= (decorations[day - 1] & ((1 << dotColors.length) - 1)) << CELL_DOTS_SHIFT;
+        }
+        return state;
     }
 
     @NonNull
     @Override
     public DayViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
-        TextView dayView = (TextView) LayoutInflater.from(parent.getContext())
+        PickerMetrics.viewHolderCreated(PickerMetricsListener.ADAPTER_MONTH);
+        DayCellView dayView = (DayCellView) LayoutInflater.from(parent.getContext())
                 .inflate(R.layout.mtrl_calendar_day, parent, false);
-        return new DayViewHolder(dayView);
+        if (dayLabels == null) {
+            // All cells share one style, so the first one stands for every cell
+            dayLabels = PrecomputedLabels.obtain(DateLabels.dayNumbers(), dayView);
+        }
+        DayViewHolder holder = new DayViewHolder(dayView);
+        // One listener per cell, reading the day the cell shows at click time
+        holder.clickListener = v -> {
+            if (onDayClickListener != null) {
+                onDayClickListener.onDayClick(Month.toTimeInMillis(holder.epochDay));
+            }
+        };
+        return holder;
     }
 
     @Override
     public void onBindViewHolder(@NonNull DayViewHolder holder, int position) {
-        int firstDayOffset = getFirstDayOffset();
-
-        Log.e(TAG, "onBindViewHolder:aaa  firstDayOffset: " +firstDayOffset );
-        Log.e(TAG, "onBindViewHolder:aaa  position: " +position);
-        Log.e(TAG, "onBindViewHolder:aaa  month.getDaysInMonth(): " +month.getDaysInMonth());
-        Log.e(TAG, "onBindViewHolder:aaa  month.getDaysInMonth(): " +month.getStartDayOfWeek());
-        Log.e(TAG, "onBindViewHolder:aaa  month.getDaysInMonth(): " +month.getMonth());
-        Log.e(TAG, "onBindViewHolder:aaa  month.getDaysInMonth(): " +month.getYear());
-
-        if (position < firstDayOffset || position >= firstDayOffset + month.getDaysInMonth()) {
+        PickerMetrics.viewHolderBound(PickerMetricsListener.ADAPTER_MONTH);
+        if (position < firstDayOffset || position >= firstDayOffset + daysInMonth) {
             // Empty cell
-            holder.dayView.setText("");
+            holder.dayView.setLabel(null, 0);
+            holder.dayView.setSubLabel(null);
+            holder.dayView.setDots(0, null);
+            holder.dayView.setAlpha(1f);
+            holder.dayView.setBackground(null);
             holder.dayView.setEnabled(false);
             holder.dayView.setOnClickListener(null);
         } else {
             int day = position - firstDayOffset + 1;
-            holder.dayView.setText(String.valueOf(day));
+            int state = cellStates[position];
+            holder.dayView.setLabel(dayLabels, day - 1);
+            holder.dayView.setSubLabel(model.getGregorianLabel(day));
+            holder.dayView.setDots(state >>> CELL_DOTS_SHIFT, dotColors);
 
-            // Convert Ethiopic date to Gregorian timestamp using UTC to avoid timezone issues
-            EthiopicDate ethiopicDate = EthiopicDate.of(month.getYear(), month.getMonth(), day);
-            LocalDate gregorianDate = LocalDate.from(ethiopicDate);
-            long timeInMillis = gregorianDate.atStartOfDay(Month.TIME_ZONE)
-                    .toInstant().toEpochMilli();
+            // Days of a month are consecutive epoch days, no per-cell conversion needed
+            holder.epochDay = monthStartEpochDay + day - 1;
 
-            boolean isValid = calendarConstraints.isWithinBounds(timeInMillis);
+            boolean isValid = (state & CELL_VALID) != 0;
             holder.dayView.setEnabled(isValid);
-
-            // Check if this day is selected
-            boolean isSelected = false;
-            if (dateSelector != null) {
-                Collection<Long> selectedDays = dateSelector.getSelectedDays();
-                for (Long selectedDay : selectedDays) {
-                    // Convert selected day timestamp to Ethiopic date using UTC to avoid timezone issues
-                    LocalDate selectedGregorian = Instant.ofEpochMilli(selectedDay)
-                            .atZone(Month.TIME_ZONE)
-                            .toLocalDate();
-                    EthiopicDate selectedEthiopic = EthiopicDate.from(selectedGregorian);
-
-                    if (selectedEthiopic.get(ChronoField.YEAR) == month.getYear() &&
-                        selectedEthiopic.get(ChronoField.MONTH_OF_YEAR) == month.getMonth() &&
-                        selectedEthiopic.get(ChronoField.DAY_OF_MONTH)  == (day)) {
-                        isSelected = true;
-                        break;
-                    }
-                }
-            }
+            holder.dayView.setAlpha((state & CELL_PENDING) != 0 ? PENDING_ALPHA : 1f);
 
             // Style the day view
-            styleDayView(holder.dayView, isSelected, isValid);
-
-            if (isValid) {
-                final long clickedDay = timeInMillis;
-                holder.dayView.setOnClickListener(v -> {
-                    if (onDayClickListener != null) {
-                        onDayClickListener.onDayClick(clickedDay);
-                    }
-                });
-            } else {
-                holder.dayView.setOnClickListener(null);
-            }
+            styleDayView(holder, (state >> CELL_DAY_STATE_SHIFT) & 0x7, isValid);
+
+            holder.dayView.setOnClickListener(isValid ? holder.clickListener : null);
         }
     }
 
-    private void styleDayView(TextView dayView, boolean isSelected, boolean isValid) {
-        Context context = dayView.getContext();
+    private void styleDayView(DayViewHolder holder, int dayState, boolean isValid) {
+        DayCellView dayView = holder.dayView;
+        switch (dayState) {
+            case DateSelector.DAY_STATE_SELECTED:
+            case DateSelector.DAY_STATE_RANGE_START:
+            case DateSelector.DAY_STATE_RANGE_END:
+                // Selected day or range endpoint - circle background with primary color
+                if (holder.selectedBackground == null) {
+                    holder.selectedBackground = copyOf(getSelectedBackground(dayView.getContext()));
+                }
+                dayView.setBackground(holder.selectedBackground);
+                dayView.setTextColor(Color.WHITE);
+                break;
+            case DateSelector.DAY_STATE_IN_RANGE:
+                // Day inside a range - translucent band with primary color
+                if (holder.inRangeBackground == null) {
+                    holder.inRangeBackground = copyOf(getInRangeBackground(dayView.getContext()));
+                }
+                dayView.setBackground(holder.inRangeBackground);
+                dayView.setTextColor(isValid ? Color.BLACK : Color.LTGRAY);
+                break;
+            default:
+                dayView.setBackground(null);
+                dayView.setTextColor(isValid ? Color.BLACK : Color.LTGRAY);
+                break;
+        }
+    }
 
-        if (isSelected) {
-            // Selected day - circle background with primary color
-            GradientDrawable drawable = new GradientDrawable();
-            drawable.setShape(GradientDrawable.OVAL);
-            drawable.setColor(getPrimaryColor(context));
-            dayView.setBackground(drawable);
-            dayView.setTextColor(Color.WHITE);
-        } else {
-            dayView.setBackground(null);
-            if (isValid) {
-                dayView.setTextColor(Color.BLACK);
-            } else {
-                dayView.setTextColor(Color.LTGRAY);
-            }
+    /**
+     * A drawable has one callback view and one set of bounds, so each cell gets its own copy.
+     * Copies share the template's constant state and cost no extra bitmap or shape data.
+     */
+    @NonNull
+    private static Drawable copyOf(@NonNull Drawable template) {
+        Drawable.ConstantState state = template.getConstantState();
+        return state != null ? state.newDrawable().mutate() : template;
+    }
+
+    private GradientDrawable getSelectedBackground(Context context) {
+        if (selectedBackground == null) {
+            selectedBackground = new GradientDrawable();
+            selectedBackground.setShape(GradientDrawable.OVAL);
+            selectedBackground.setColor(getPrimaryColor(context));
+        }
+        return selectedBackground;
+    }
+
+    private GradientDrawable getInRangeBackground(Context context) {
+        if (inRangeBackground == null) {
+            int primaryColor = getPrimaryColor(context);
+            inRangeBackground = new GradientDrawable();
+            inRangeBackground.setShape(GradientDrawable.RECTANGLE);
+            inRangeBackground.setColor((primaryColor & 0x00FFFFFF) | IN_RANGE_ALPHA);
         }
+        return inRangeBackground;
     }
 
     private int getPrimaryColor(Context context) {
@@ -164,23 +290,18 @@ public class MonthAdapter extends RecyclerView.Adapter<MonthAdapter.DayViewHolde
 
     @Override
     public int getItemCount() {
-        // 6 rows * 7 days = 42 cells
-        return 42;
-    }
-
-    private int getFirstDayOffset() {
-        int monthFirstDay = month.getStartDayOfWeek();//
-        int offset = monthFirstDay - firstDayOfWeek;
-        if (offset < 0) {
-            offset += 7;
-        }
-        return offset;
+        return CELL_COUNT;
     }
 
     static class DayViewHolder extends RecyclerView.ViewHolder {
-        final TextView dayView;
+        final DayCellView dayView;
+        // Created on first use, then reused for every day this cell shows
+        @Nullable Drawable selectedBackground;
+        @Nullable Drawable inRangeBackground;
+        @Nullable View.OnClickListener clickListener;
+        int epochDay;
 
-        DayViewHolder(@NonNull TextView dayView) {
+        DayViewHolder(@NonNull DayCellView dayView) {
             super(dayView);
             this.dayView = dayView;
         }
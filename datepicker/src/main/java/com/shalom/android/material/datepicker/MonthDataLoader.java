@@ -0,0 +1,249 @@
+package com.shalom.android.material.datepicker;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.util.LruCache;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Loads per-month data either inline or on a background executor, keeping results in a bounded
+ * cache. Loads for months that are no longer shown can be cancelled. A load that throws is
+ * replaced by the loader's fallback, so a month is never left waiting for data that will not
+ * come.
+ *
+ * <p>All methods except {@link Source#load(Month)} must be called on the main thread.
+ *
+ * @param <T> The type of data loaded for each month
+ */
+final class MonthDataLoader<T> {
+
+    private static final String TAG = "MonthDataLoader";
+
+    static final int DEFAULT_CACHE_SIZE = 24;
+
+    private static Executor backgroundExecutor;
+    private static Executor decorationExecutor;
+    @Nullable private static Executor testExecutor;
+
+    interface Source<T> {
+        @NonNull
+        T load(@NonNull Month month);
+    }
+
+    interface Callback<T> {
+        @MainThread
+        void onLoaded(@NonNull Month month, @NonNull T data);
+    }
+
+    private final String cacheName;
+    private final Source<T> source;
+    @Nullable private final Source<T> fallback;
+    private final Callback<T> callback;
+    private final boolean async;
+    private final Executor executor;
+    private final LruCache<Month, T> cache;
+    private final Map<Month, FutureTask<T>> inFlight = new HashMap<>();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    /**
+     * @param cacheName name reported to {@link PickerMetricsListener#onCacheLookup}
+     */
+    MonthDataLoader(
+            @NonNull String cacheName,
+            @NonNull Source<T> source,
+            @NonNull Callback<T> callback,
+            boolean async,
+            int cacheSize) {
+        this(cacheName, source, null, callback, async, cacheSize);
+    }
+
+    /**
+     * @param cacheName name reported to {@link PickerMetricsListener#onCacheLookup}
+     * @param fallback loads a month whose {@code source} load threw, on the same thread; must not
+     *     throw itself
+     */
+    MonthDataLoader(
+            @NonNull String cacheName,
+            @NonNull Source<T> source,
+            @Nullable Source<T> fallback,
+            @NonNull Callback<T> callback,
+            boolean async,
+            int cacheSize) {
+        this(cacheName, source, fallback, callback, async, getBackgroundExecutor(), cacheSize);
+    }
+
+    /**
+     * @param executor runs the loads of an asynchronous loader
+     */
+    MonthDataLoader(
+            @NonNull String cacheName,
+            @NonNull Source<T> source,
+            @Nullable Source<T> fallback,
+            @NonNull Callback<T> callback,
+            boolean async,
+            @NonNull Executor executor,
+            int cacheSize) {
+        this.cacheName = cacheName;
+        this.source = source;
+        this.fallback = fallback;
+        this.callback = callback;
+        this.async = async;
+        this.executor = executor;
+        this.cache = new LruCache<>(cacheSize);
+    }
+
+    /**
+     * Returns the data for {@code month}. Synchronous loaders compute it inline on a cache miss.
+     * Asynchronous loaders start a background load and return null until it completes, at which
+     * point the callback is notified.
+     */
+    @Nullable
+    T get(@NonNull Month month) {
+        T cached = cache.get(month);
+        PickerMetrics.cacheLookup(cacheName, cached != null);
+        if (cached != null) {
+            return cached;
+        }
+        if (!async) {
+            T data = load(month);
+            cache.put(month, data);
+            return data;
+        }
+        request(month);
+        return null;
+    }
+
+    /** Returns the cached data for {@code month} without loading it. */
+    @Nullable
+    T peek(@NonNull Month month) {
+        return cache.get(month);
+    }
+
+    private void request(@NonNull Month month) {
+        if (inFlight.containsKey(month)) {
+            return;
+        }
+        FutureTask<T> task = new FutureTask<T>(() -> load(month)) {
+            @WorkerThread
+            @Override
+            protected void done() {
+                if (!isCancelled()) {
+                    mainHandler.post(() -> deliver(month, this));
+                }
+            }
+        };
+        inFlight.put(month, task);
+        executor.execute(task);
+    }
+
+    @NonNull
+    private T load(@NonNull Month month) {
+        try {
+            return source.load(month);
+        } catch (RuntimeException e) {
+            // A cancelled load may throw on interruption; its result is never used
+            if (fallback == null || Thread.currentThread().isInterrupted()) {
+                throw e;
+            }
+            Log.w(TAG, "Failed to load " + cacheName + " for "
+                    + month.getYear() + "-" + month.getMonth() + ", using fallback", e);
+            return fallback.load(month);
+        }
+    }
+
+    private void deliver(@NonNull Month month, @NonNull FutureTask<T> task) {
+        // A newer request or a cancel may have replaced this task in the meantime
+        if (inFlight.get(month) != task) {
+            return;
+        }
+        inFlight.remove(month);
+        try {
+            T data = task.get();
+            cache.put(month, data);
+            callback.onLoaded(month, data);
+        } catch (ExecutionException e) {
+            Log.e(TAG, "Failed to load data for " + month.getYear() + "-" + month.getMonth(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Cancels the in-flight load for {@code month}, if any. */
+    void cancel(@NonNull Month month) {
+        FutureTask<T> task = inFlight.remove(month);
+        if (task != null) {
+            task.cancel(true);
+        }
+    }
+
+    /** Cancels every in-flight load. */
+    void cancelAll() {
+        for (FutureTask<T> task : inFlight.values()) {
+            task.cancel(true);
+        }
+        inFlight.clear();
+    }
+
+    /** Cancels every in-flight load and drops all cached data. */
+    void invalidate() {
+        cancelAll();
+        cache.evictAll();
+    }
+
+    /**
+     * Runs all background work on {@code executor} instead of the shared threads, or restores
+     * them if it is null. Only affects loaders created afterwards. For tests, which pass an
+     * executor running tasks inline so that their results are posted before the main looper idles.
+     */
+    static synchronized void setExecutorForTesting(@Nullable Executor executor) {
+        testExecutor = executor;
+    }
+
+    /** The shared low-priority thread that validity loads and label measuring run on. */
+    static synchronized Executor getBackgroundExecutor() {
+        if (testExecutor != null) {
+            return testExecutor;
+        }
+        if (backgroundExecutor == null) {
+            backgroundExecutor = newLowPriorityExecutor("EthiopicCalendarLoader");
+        }
+        return backgroundExecutor;
+    }
+
+    /**
+     * The shared low-priority thread that {@link DayDecorator} loads run on, apart from
+     * {@link #getBackgroundExecutor()} so a slow decorator query does not hold up validity loads
+     * and the other way round.
+     */
+    static synchronized Executor getDecorationExecutor() {
+        if (testExecutor != null) {
+            return testExecutor;
+        }
+        if (decorationExecutor == null) {
+            decorationExecutor = newLowPriorityExecutor("EthiopicCalendarDecorations");
+        }
+        return decorationExecutor;
+    }
+
+    @NonNull
+    private static Executor newLowPriorityExecutor(@NonNull String threadName) {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,133 @@
+package com.shalom.android.material.datepicker;
+
+import android.graphics.Color;
+import android.graphics.Typeface;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.core.content.ContextCompat;
+import androidx.recyclerview.widget.RecyclerView;
+
+/**
+ * Adapter for displaying the 13 months of one year for selection, shown after a year is picked
+ * so any month can be reached in two taps.
+ *
+ * <p>Months without any selectable day are disabled.
+ */
+public class MonthGridAdapter extends RecyclerView.Adapter<MonthGridAdapter.MonthViewHolder> {
+
+    private static final int MONTHS_PER_YEAR = 13;
+
+    private final CalendarConstraints calendarConstraints;
+    private final CalendarLabels labels;
+    private final int year;
+    private final int selectedMonth;
+    private final boolean checkValidator;
+    private final OnMonthSelectedListener listener;
+
+    private int selectedColor;
+    private int textColor;
+
+    public interface OnMonthSelectedListener {
+        void onMonthSelected(@NonNull Month month);
+    }
+
+    /**
+     * @param selectedMonth the month to highlight, 1 to 13, or 0 for none
+     */
+    public MonthGridAdapter(
+            @NonNull CalendarConstraints calendarConstraints,
+            @NonNull CalendarLabels labels,
+            int year,
+            int selectedMonth,
+            OnMonthSelectedListener listener) {
+        this.calendarConstraints = calendarConstraints;
+        this.labels = labels;
+        this.year = year;
+        this.selectedMonth = selectedMonth;
+        // Asynchronous validators must not run on the main thread, only bounds are checked
+        this.checkValidator = !(calendarConstraints.getDateValidator() instanceof AsyncDateValidator);
+        this.listener = listener;
+    }
+
+    @Override
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        selectedColor = ContextCompat.getColor(recyclerView.getContext(), android.R.color.holo_blue_light);
+        textColor = ContextCompat.getColor(recyclerView.getContext(), android.R.color.black);
+    }
+
+    @NonNull
+    @Override
+    public MonthViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        PickerMetrics.viewHolderCreated(PickerMetricsListener.ADAPTER_MONTH_GRID);
+        View view = LayoutInflater.from(parent.getContext())
+                .inflate(R.layout.mtrl_calendar_month_item, parent, false);
+        return new MonthViewHolder(view);
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull MonthViewHolder holder, int position) {
+        PickerMetrics.viewHolderBound(PickerMetricsListener.ADAPTER_MONTH_GRID);
+        holder.bind(position + 1);
+    }
+
+    @Override
+    public int getItemCount() {
+        return MONTHS_PER_YEAR;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * Returns true if {@code month} of this year has at least one selectable day.
+     */
+    public boolean isMonthEnabled(int month) {
+        return calendarConstraints.hasValidDays(
+                EthiopicDateConverter.ethiopicToEpochDay(year, month, 1),
+                EthiopicDateConverter.getEthiopicMonthDays(year, month),
+                checkValidator);
+    }
+
+    class MonthViewHolder extends RecyclerView.ViewHolder {
+        private final TextView monthTextView;
+        private int month;
+
+        MonthViewHolder(@NonNull View itemView) {
+            super(itemView);
+            monthTextView = itemView.findViewById(R.id.month_text);
+
+            // One click listener per holder, reading the month it is currently bound to
+            itemView.setOnClickListener(v -> {
+                if (listener != null) {
+                    listener.onMonthSelected(Month.create(year, month));
+                }
+            });
+        }
+
+        void bind(int month) {
+            this.month = month;
+            monthTextView.setText(labels.getMonthName(month));
+
+            boolean isEnabled = isMonthEnabled(month);
+            itemView.setEnabled(isEnabled);
+
+            if (!isEnabled) {
+                // Month without any selectable day
+                monthTextView.setTextColor(Color.LTGRAY);
+                monthTextView.setTypeface(null, Typeface.NORMAL);
+            } else if (month == selectedMonth) {
+                // Month currently shown
+                monthTextView.setTextColor(selectedColor);
+                monthTextView.setTypeface(null, Typeface.BOLD);
+            } else {
+                monthTextView.setTextColor(textColor);
+                monthTextView.setTypeface(null, Typeface.NORMAL);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.shalom.android.material.datepicker;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+
+/**
+ * Everything a month grid needs to bind its cells, computed once per month.
+ *
+ * <p>Gregorian sub-labels take a single conversion of the month's first day and are then
+ * advanced one day at a time, so binding a cell is an array lookup.
+ */
+final class MonthModel {
+
+    /** Weekday shown in the first column of the grid. */
+    private static final int FIRST_DAY_OF_WEEK = DayOfWeek.MONDAY.getValue();
+
+    @NonNull private final Month month;
+    private final int firstDayOffset;
+    @Nullable private final String[] gregorianLabels;
+
+    private MonthModel(@NonNull Month month, @Nullable String[] gregorianLabels) {
+        this.month = month;
+        this.firstDayOffset = Math.floorMod(month.getStartDayOfWeek() - FIRST_DAY_OF_WEEK, 7);
+        this.gregorianLabels = gregorianLabels;
+    }
+
+    /**
+     * Creates the model for {@code month}, without sub-labels.
+     */
+    @NonNull
+    static MonthModel create(@NonNull Month month) {
+        return new MonthModel(month, null);
+    }
+
+    /**
+     * Creates the model for {@code month}, with Gregorian sub-labels named from
+     * {@code gregorianLabels} if it is not null.
+     */
+    @NonNull
+    static MonthModel create(@NonNull Month month, @Nullable CalendarLabels gregorianLabels) {
+        return new MonthModel(
+                month, gregorianLabels != null ? createGregorianLabels(month, gregorianLabels) : null);
+    }
+
+    @NonNull
+    private static String[] createGregorianLabels(@NonNull Month month, @NonNull CalendarLabels calendarLabels) {
+        String[] labels = new String[month.getDaysInMonth()];
+        LocalDate start = LocalDate.ofEpochDay(month.getStartEpochDay());
+        int year = start.getYear();
+        int gregorianMonth = start.getMonthValue();
+        int day = start.getDayOfMonth();
+        int monthLength = start.lengthOfMonth();
+
+        for (int i = 0; i < labels.length; i++) {
+            // Name the Gregorian month on the first cell and wherever a new one begins
+            labels[i] = i == 0 || day == 1
+                    ? calendarLabels.getGregorianMonthAbbreviation(gregorianMonth) + " " + DateLabels.dayNumber(day)
+                    : DateLabels.dayNumber(day);
+
+            if (++day > monthLength) {
+                day = 1;
+                if (++gregorianMonth > 12) {
+                    gregorianMonth = 1;
+                    year++;
+                }
+                monthLength = java.time.Month.of(gregorianMonth).length(Year.isLeap(year));
+            }
+        }
+        return labels;
+    }
+
+    @NonNull
+    Month getMonth() {
+        return month;
+    }
+
+    /** Grid position of the month's first day. */
+    int getFirstDayOffset() {
+        return firstDayOffset;
+    }
+
+    /**
+     * Returns the Gregorian sub-label of day {@code day} (1-based), or null when sub-labels are
+     * not shown.
+     */
+    @Nullable
+    String getGregorianLabel(int day) {
+        return gregorianLabels != null ? gregorianLabels[day - 1] : null;
+    }
+}
@@ -0,0 +1,208 @@
+package com.shalom.android.material.datepicker;
+
+import android.app.ActivityManager;
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.util.LruCache;
+import android.view.View;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.tracing.Trace;
+
+import java.util.ArrayDeque;
+
+/**
+ * Keeps rendered bitmaps of month pages so that a page reached during a fast fling can be shown
+ * immediately while its real views are bound.
+ *
+ * <p>Pages near the visible one are drawn off-screen while the main thread is idle. The cache is
+ * sized as a fraction of {@link ActivityManager#getMemoryClass()} and shrinks or empties itself
+ * when the system asks the app to trim memory.
+ *
+ * <p>All methods must be called on the main thread.
+ */
+@MainThread
+final class MonthRenderCache implements ComponentCallbacks2 {
+
+    /** The cache may use this fraction of the app's memory class. */
+    private static final int MEMORY_CLASS_FRACTION = 8;
+
+    private static final int BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    interface PageBinder {
+        /**
+         * Binds {@code month} to {@code monthView}. Returns false if the month's data is not
+         * ready, in which case nothing is rendered.
+         */
+        boolean bindPage(@NonNull MonthView monthView, @NonNull Month month);
+    }
+
+    private final Context context;
+    private final PageBinder pageBinder;
+    private final LruCache<Month, Bitmap> bitmaps;
+    private final ArrayDeque<Month> pendingRenders = new ArrayDeque<>();
+    private final MessageQueue.IdleHandler idleHandler = this::renderNext;
+
+    private int pageWidth;
+    private int pageHeight;
+    @Nullable private MonthView scratchView;
+    @Nullable private Bitmap scratchBitmap;
+    private boolean isIdleHandlerQueued;
+    private boolean isRegistered;
+
+    MonthRenderCache(@NonNull Context context, @NonNull PageBinder pageBinder) {
+        this.context = context;
+        this.pageBinder = pageBinder;
+        this.bitmaps = new LruCache<Month, Bitmap>(getMaxBytes(context)) {
+            @Override
+            protected int sizeOf(@NonNull Month month, @NonNull Bitmap bitmap) {
+                return bitmap.getAllocationByteCount();
+            }
+        };
+    }
+
+    private static int getMaxBytes(@NonNull Context context) {
+        ActivityManager activityManager =
+                (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+        int memoryClass = activityManager != null ? activityManager.getMemoryClass() : 16;
+        return memoryClass * BYTES_PER_MEGABYTE / MEMORY_CLASS_FRACTION;
+    }
+
+    /** Starts listening for memory pressure. */
+    void register() {
+        if (!isRegistered) {
+            context.getApplicationContext().registerComponentCallbacks(this);
+            isRegistered = true;
+        }
+    }
+
+    /** Stops listening for memory pressure and releases every bitmap. */
+    void unregister() {
+        if (isRegistered) {
+            context.getApplicationContext().unregisterComponentCallbacks(this);
+            isRegistered = false;
+        }
+        evictAll();
+    }
+
+    /**
+     * Sets the size pages are laid out at. Bitmaps of another size are dropped.
+     */
+    void setPageSize(int width, int height) {
+        if (width != pageWidth || height != pageHeight) {
+            pageWidth = width;
+            pageHeight = height;
+            evictAll();
+        }
+    }
+
+    /**
+     * Returns the rendered page for {@code month}, or null if it is not cached.
+     */
+    @Nullable
+    Bitmap get(@NonNull Month month) {
+        Bitmap bitmap = bitmaps.get(month);
+        PickerMetrics.cacheLookup(PickerMetricsListener.CACHE_PAGE_BITMAPS, bitmap != null);
+        return bitmap;
+    }
+
+    /**
+     * Queues {@code month} to be rendered the next time the main thread is idle.
+     */
+    void prerender(@NonNull Month month) {
+        if (pageWidth == 0 || pageHeight == 0 || bitmaps.get(month) != null
+                || pendingRenders.contains(month)) {
+            return;
+        }
+        pendingRenders.add(month);
+        if (!isIdleHandlerQueued) {
+            isIdleHandlerQueued = true;
+            Looper.myQueue().addIdleHandler(idleHandler);
+        }
+    }
+
+    /** Drops the rendered page for {@code month}, after its content changed. */
+    void evict(@NonNull Month month) {
+        bitmaps.remove(month);
+    }
+
+    /** Drops every rendered page and any pending render. */
+    void evictAll() {
+        pendingRenders.clear();
+        bitmaps.evictAll();
+        scratchBitmap = null;
+    }
+
+    /** Renders one queued page; returns true while more remain. */
+    private boolean renderNext() {
+        Month month = pendingRenders.poll();
+        if (month != null && bitmaps.get(month) == null) {
+            Trace.beginSection("MonthRenderCache.render");
+            try {
+                render(month);
+            } finally {
+                Trace.endSection();
+            }
+        }
+        isIdleHandlerQueued = !pendingRenders.isEmpty();
+        return isIdleHandlerQueued;
+    }
+
+    private void render(@NonNull Month month) {
+        if (scratchView == null) {
+            scratchView = new MonthView(context);
+        }
+        if (!pageBinder.bindPage(scratchView, month)) {
+            return;
+        }
+        scratchView.measure(
+                View.MeasureSpec.makeMeasureSpec(pageWidth, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(pageHeight, View.MeasureSpec.EXACTLY));
+        scratchView.layout(0, 0, pageWidth, pageHeight);
+
+        // Draw in software once, then keep a hardware copy that lives outside the Java heap
+        if (scratchBitmap == null) {
+            scratchBitmap = Bitmap.createBitmap(pageWidth, pageHeight, Bitmap.Config.ARGB_8888);
+        }
+        scratchBitmap.eraseColor(Color.TRANSPARENT);
+        scratchView.draw(new Canvas(scratchBitmap));
+
+        Bitmap rendered = scratchBitmap.copy(Bitmap.Config.HARDWARE, false);
+        if (rendered == null) {
+            rendered = scratchBitmap.copy(Bitmap.Config.ARGB_8888, false);
+        }
+        if (rendered != null) {
+            bitmaps.put(month, rendered);
+        }
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        if (level >= TRIM_MEMORY_UI_HIDDEN || level == TRIM_MEMORY_RUNNING_CRITICAL) {
+            evictAll();
+            scratchView = null;
+        } else if (level >= TRIM_MEMORY_RUNNING_LOW) {
+            bitmaps.trimToSize(bitmaps.maxSize() / 2);
+        }
+    }
+
+    @Override
+    public void onLowMemory() {
+        onTrimMemory(TRIM_MEMORY_COMPLETE);
+    }
+
+    @Override
+    public void onConfigurationChanged(@NonNull Configuration newConfig) {
+        // Pages rendered for the old configuration would show stale text and colors
+        evictAll();
+        scratchView = null;
+    }
+}
@@ -1,7 +1,10 @@
 package com.shalom.android.material.datepicker;
 
 import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
 import android.view.LayoutInflater;
+import android.view.MotionEvent;
 import android.view.View;
 import android.widget.FrameLayout;
 
@@ -9,6 +12,9 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.GridLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
+import androidx.tracing.Trace;
+
+import java.util.BitSet;
 
 /**
  * Displays a single month's calendar grid.
@@ -17,6 +23,8 @@ public class MonthView extends FrameLayout {
 
     private final RecyclerView recyclerView;
     private MonthAdapter adapter;
+    @Nullable private Month month;
+    @Nullable private Bitmap placeholder;
 
     public MonthView(@NonNull Context context) {
         super(context);
@@ -24,6 +32,8 @@ public class MonthView extends FrameLayout {
         recyclerView = new RecyclerView(context);
         recyclerView.setLayoutManager(new GridLayoutManager(context, 7));
         recyclerView.setHasFixedSize(true);
+        // Changed cells are rebound in place; a change animation would create a second holder
+        recyclerView.setItemAnimator(null);
 
         addView(recyclerView, new LayoutParams(
                 LayoutParams.MATCH_PARENT,
@@ -36,13 +46,97 @@ public class MonthView extends FrameLayout {
             @Nullable DateSelector<?> dateSelector,
             @NonNull CalendarConstraints calendarConstraints,
             @Nullable MonthAdapter.OnDayClickListener onDayClickListener) {
-        adapter = new MonthAdapter(month, dateSelector, calendarConstraints, onDayClickListener);
-        recyclerView.setAdapter(adapter);
+        BitSet validDays = new BitSet(month.getDaysInMonth());
+        calendarConstraints.getValidDays(month, validDays);
+        setMonth(month, dateSelector, validDays, onDayClickListener);
+    }
+
+    /**
+     * Shows {@code month} with precomputed validity. A null {@code validDays} renders the days in
+     * a pending state until the month is bound again with its result.
+     */
+    public void setMonth(
+            @NonNull Month month,
+            @Nullable DateSelector<?> dateSelector,
+            @Nullable BitSet validDays,
+            @Nullable MonthAdapter.OnDayClickListener onDayClickListener) {
+        setMonth(MonthModel.create(month), dateSelector, validDays, null, null, onDayClickListener);
+    }
+
+    /**
+     * Shows the month of {@code model}. {@code decorations} holds each day's
+     * {@link DayDecorator} bits, or is null to draw no dots.
+     *
+     * <p>The view keeps one adapter and one set of day cells for its lifetime. Showing another
+     * month rebinds the cells; showing the same month again rebinds only the cells whose state
+     * changed.
+     */
+    void setMonth(
+            @NonNull MonthModel model,
+            @Nullable DateSelector<?> dateSelector,
+            @Nullable BitSet validDays,
+            @Nullable int[] decorations,
+            @Nullable int[] dotColors,
+            @Nullable MonthAdapter.OnDayClickListener onDayClickListener) {
+        this.month = model.getMonth();
+        if (adapter == null) {
+            adapter = new MonthAdapter(model, dateSelector, validDays, decorations, dotColors, onDayClickListener);
+            recyclerView.setAdapter(adapter);
+        } else {
+            adapter.update(model, dateSelector, validDays, decorations, dotColors, onDayClickListener);
+        }
+        setPlaceholder(null);
+    }
+
+    /**
+     * Shows a previously rendered image of the page instead of the day grid, until the next
+     * {@code setMonth} call.
+     */
+    void setPlaceholder(@Nullable Bitmap placeholder) {
+        if (this.placeholder != placeholder) {
+            this.placeholder = placeholder;
+            invalidate();
+        }
+    }
+
+    @Override
+    public boolean onInterceptTouchEvent(MotionEvent event) {
+        // The grid below the placeholder still shows a previous month
+        return placeholder != null || super.onInterceptTouchEvent(event);
+    }
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        return placeholder != null || super.onTouchEvent(event);
+    }
+
+    @Override
+    protected void dispatchDraw(Canvas canvas) {
+        if (placeholder != null) {
+            canvas.drawBitmap(placeholder, 0f, 0f, null);
+        } else {
+            super.dispatchDraw(canvas);
+        }
+    }
+
+    @Override
+    protected void onLayout(boolean changed, int left, int top, int right, int bottom) {
+        // Day cells are bound while the grid lays out
+        Trace.beginSection("MonthView.onLayout");
+        try {
+            long start = PickerMetrics.start();
+            super.onLayout(changed, left, top, right, bottom);
+            if (month != null) {
+                PickerMetrics.pageLaidOut(month, start);
+            }
+        } finally {
+            Trace.endSection();
+        }
     }
 
     public void notifyDataSetChanged() {
         if (adapter != null) {
-            adapter.notifyDataSetChanged();
+            adapter.refresh();
         }
     }
 }
@@ -1,47 +1,358 @@
 package com.shalom.android.material.datepicker;
 
+import android.graphics.Bitmap;
 import android.view.View;
 import android.view.ViewGroup;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.RecyclerView;
+import androidx.tracing.Trace;
+
+import java.util.Arrays;
+import java.util.BitSet;
 
 /**
  * Adapter for ViewPager2 to scroll through months.
  */
 public class MonthsPagerAdapter extends RecyclerView.Adapter<MonthsPagerAdapter.MonthViewHolder> {
 
+    /** Pages this far from a bound page are rendered ahead when the render cache is enabled. */
+    private static final int PRERENDER_DISTANCE = 2;
+
+    /**
+     * Payload of every page change. A change with a payload rebinds the page's existing view
+     * instead of cross-fading to a second one, so its day cells are updated in place.
+     */
+    private static final Object PAYLOAD_REBIND = new Object();
+
+    /** No page span notified yet, see {@link #notifyPagesForRanges}. */
+    private static final long NO_SPAN = Long.MIN_VALUE;
+
     private final CalendarConstraints calendarConstraints;
     private final DateSelector<?> dateSelector;
     private final MonthAdapter.OnDayClickListener onDayClickListener;
     private final int monthCount;
+    private final MonthDataLoader<BitSet> validDaysLoader;
+    private final MonthDataLoader<MonthModel> monthModelLoader;
+    @Nullable private DayDecorator dayDecorator;
+    @Nullable private MonthDataLoader<int[]> decorationLoader;
+    @Nullable private int[] dotColors;
+    private long decorationVersion;
+    private boolean showGregorianDates;
+    @NonNull private CalendarLabels labels = CalendarLabels.current();
+    private boolean renderCacheEnabled;
+    @Nullable private MonthRenderCache renderCache;
+    @Nullable private RecyclerView recyclerView;
+    private final View.OnLayoutChangeListener pageSizeListener =
+            (v, left, top, right, bottom, oldLeft, oldTop, oldRight, oldBottom) -> {
+                if (renderCache != null) {
+                    renderCache.setPageSize(right - left, bottom - top);
+                }
+            };
 
     public MonthsPagerAdapter(
             @NonNull CalendarConstraints calendarConstraints,
             @Nullable DateSelector<?> dateSelector,
             @Nullable MonthAdapter.OnDayClickListener onDayClickListener) {
+        this(calendarConstraints, dateSelector, onDayClickListener, false);
+    }
+
+    public MonthsPagerAdapter(
+            @NonNull CalendarConstraints calendarConstraints,
+            @Nullable DateSelector<?> dateSelector,
+            @Nullable MonthAdapter.OnDayClickListener onDayClickListener,
+            boolean showGregorianDates) {
         this.calendarConstraints = calendarConstraints;
         this.dateSelector = dateSelector;
         this.onDayClickListener = onDayClickListener;
         this.monthCount = calendarConstraints.getStart().monthsUntil(calendarConstraints.getEnd()) + 1;
+        this.validDaysLoader = new MonthDataLoader<>(
+                PickerMetricsListener.CACHE_VALID_DAYS,
+                month -> {
+                    Trace.beginSection("CalendarConstraints.getValidDays");
+                    try {
+                        long start = PickerMetrics.start();
+                        BitSet validDays = new BitSet(month.getDaysInMonth());
+                        calendarConstraints.getValidDays(month, validDays);
+                        PickerMetrics.validatorTime(month, start);
+                        return validDays;
+                    } finally {
+                        Trace.endSection();
+                    }
+                },
+                this::loadValidDaysPerDay,
+                (month, validDays) -> notifyItemChanged(getPositionForMonth(month), PAYLOAD_REBIND),
+                calendarConstraints.getDateValidator() instanceof AsyncDateValidator,
+                MonthDataLoader.DEFAULT_CACHE_SIZE);
+        this.showGregorianDates = showGregorianDates;
+        // Models are cheap and built inline, so the callback is never used
+        this.monthModelLoader = new MonthDataLoader<>(
+                PickerMetricsListener.CACHE_MONTH_MODELS,
+                month -> MonthModel.create(month, this.showGregorianDates ? labels : null),
+                (month, model) -> {},
+                false,
+                MonthDataLoader.DEFAULT_CACHE_SIZE);
+
+        // Any change to a page's content makes its rendered bitmap stale
+        registerAdapterDataObserver(new RecyclerView.AdapterDataObserver() {
+            @Override
+            public void onChanged() {
+                if (renderCache != null) {
+                    renderCache.evictAll();
+                }
+            }
+
+            @Override
+            public void onItemRangeChanged(int positionStart, int itemCount) {
+                if (renderCache != null && itemCount == monthCount) {
+                    renderCache.evictAll();
+                } else if (renderCache != null) {
+                    for (int i = 0; i < itemCount; i++) {
+                        renderCache.evict(getMonthForPosition(positionStart + i));
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Shows or hides the matching Gregorian date below each day.
+     */
+    public void setShowGregorianDates(boolean showGregorianDates) {
+        if (this.showGregorianDates != showGregorianDates) {
+            this.showGregorianDates = showGregorianDates;
+            monthModelLoader.invalidate();
+            rebindAllPages();
+        }
+    }
+
+    /**
+     * Sets the names used on the pages, after a locale change.
+     */
+    public void setLabels(@NonNull CalendarLabels labels) {
+        if (this.labels != labels) {
+            this.labels = labels;
+            monthModelLoader.invalidate();
+            rebindAllPages();
+        }
+    }
+
+    /**
+     * Sets the decorator supplying the dots under each day, or removes it if
+     * {@code dayDecorator} is null. The decorator is asked once per month and its results are
+     * cached until its {@link DayDecorator#getVersion() version} changes.
+     */
+    public void setDayDecorator(@Nullable DayDecorator dayDecorator) {
+        if (this.dayDecorator == dayDecorator) {
+            return;
+        }
+        if (decorationLoader != null) {
+            decorationLoader.cancelAll();
+        }
+        this.dayDecorator = dayDecorator;
+        if (dayDecorator != null) {
+            int[] colors = dayDecorator.getDotColors();
+            dotColors = colors.length > DayDecorator.MAX_DOTS
+                    ? Arrays.copyOf(colors, DayDecorator.MAX_DOTS)
+                    : colors.clone();
+            decorationVersion = dayDecorator.getVersion();
+            decorationLoader = new MonthDataLoader<>(
+                    PickerMetricsListener.CACHE_DECORATIONS,
+                    month -> {
+                        Trace.beginSection("DayDecorator.decorate");
+                        try {
+                            int[] decorations = new int[month.getDaysInMonth()];
+                            dayDecorator.decorate(month.getStartEpochDay(), decorations.length, decorations);
+                            return decorations;
+                        } finally {
+                            Trace.endSection();
+                        }
+                    },
+                    null,
+                    (month, decorations) -> notifyItemChanged(getPositionForMonth(month), PAYLOAD_REBIND),
+                    dayDecorator.isAsync(),
+                    MonthDataLoader.getDecorationExecutor(),
+                    MonthDataLoader.DEFAULT_CACHE_SIZE);
+        } else {
+            dotColors = null;
+            decorationLoader = null;
+        }
+        rebindAllPages();
+    }
+
+    /**
+     * Rebinds every page with fresh decorations if the decorator's version has changed since they
+     * were loaded.
+     */
+    public void notifyDecorationsChanged() {
+        if (checkDecorationVersion()) {
+            rebindAllPages();
+        }
+    }
+
+    /** Drops cached decorations that are older than the decorator's version. */
+    private boolean checkDecorationVersion() {
+        if (dayDecorator == null || decorationLoader == null) {
+            return false;
+        }
+        long version = dayDecorator.getVersion();
+        if (version == decorationVersion) {
+            return false;
+        }
+        decorationVersion = version;
+        decorationLoader.invalidate();
+        return true;
+    }
+
+    /**
+     * Enables a cache of rendered pages. Pages near the visible one are drawn into bitmaps while
+     * the main thread is idle, and a page reached during a fast fling shows its bitmap until its
+     * views are bound on the next frame. Off by default.
+     */
+    public void setRenderCacheEnabled(boolean renderCacheEnabled) {
+        if (this.renderCacheEnabled == renderCacheEnabled) {
+            return;
+        }
+        this.renderCacheEnabled = renderCacheEnabled;
+        if (recyclerView != null) {
+            if (renderCacheEnabled) {
+                attachRenderCache(recyclerView);
+            } else {
+                detachRenderCache(recyclerView);
+            }
+        }
     }
 
     @NonNull
     @Override
     public MonthViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        PickerMetrics.viewHolderCreated(PickerMetricsListener.ADAPTER_MONTHS_PAGER);
         MonthView monthView = new MonthView(parent.getContext());
         monthView.setLayoutParams(new RecyclerView.LayoutParams(
                 RecyclerView.LayoutParams.MATCH_PARENT,
                 RecyclerView.LayoutParams.MATCH_PARENT
         ));
-        return new MonthViewHolder(monthView);
+        return new MonthViewHolder(monthView, this::bindPage);
     }
 
     @Override
     public void onBindViewHolder(@NonNull MonthViewHolder holder, int position) {
-        Month month = calendarConstraints.getStart().monthsLater(position);
-        holder.monthView.setMonth(month, dateSelector, calendarConstraints, onDayClickListener);
+        Trace.beginSection("MonthsPagerAdapter.onBindViewHolder");
+        try {
+            long start = PickerMetrics.start();
+            PickerMetrics.viewHolderBound(PickerMetricsListener.ADAPTER_MONTHS_PAGER);
+            Month month = calendarConstraints.getStart().monthsLater(position);
+            holder.month = month;
+            holder.monthView.removeCallbacks(holder.deferredBind);
+
+            Bitmap placeholder = renderCache != null ? renderCache.get(month) : null;
+            if (placeholder != null) {
+                // Draw the rendered page now and bind the real views on a later frame
+                holder.monthView.setPlaceholder(placeholder);
+                holder.monthView.post(holder.deferredBind);
+            } else {
+                bindPage(holder.monthView, month);
+            }
+
+            if (renderCache != null) {
+                prerenderAround(position);
+            }
+            PickerMetrics.pageBound(month, start);
+        } finally {
+            Trace.endSection();
+        }
+    }
+
+    /**
+     * Binds {@code month} to {@code monthView}. Returns false if its validity is still loading.
+     */
+    private boolean bindPage(@NonNull MonthView monthView, @NonNull Month month) {
+        // Null while an asynchronous validator is still loading this month
+        BitSet validDays = validDaysLoader.get(month);
+        if (checkDecorationVersion() && recyclerView != null) {
+            // Pages bound before the version changed still show the old decorations
+            recyclerView.post(this::rebindAllPages);
+        }
+        // Null without a decorator, or while an asynchronous one is still loading this month
+        int[] decorations = decorationLoader != null ? decorationLoader.get(month) : null;
+        monthView.setMonth(
+                monthModelLoader.get(month), dateSelector, validDays, decorations, dotColors, onDayClickListener);
+        return validDays != null;
+    }
+
+    /**
+     * Validity of {@code month} asked one day at a time, for when the validator's range call
+     * failed. A day whose check throws is shown as invalid rather than pending forever.
+     */
+    @NonNull
+    private BitSet loadValidDaysPerDay(@NonNull Month month) {
+        BitSet validDays = new BitSet(month.getDaysInMonth());
+        int startEpochDay = month.getStartEpochDay();
+        for (int i = 0; i < month.getDaysInMonth(); i++) {
+            try {
+                validDays.set(i, calendarConstraints.isWithinBounds(Month.toTimeInMillis(startEpochDay + i)));
+            } catch (RuntimeException e) {
+                validDays.clear(i);
+            }
+        }
+        return validDays;
+    }
+
+    private void prerenderAround(int position) {
+        int from = Math.max(position - PRERENDER_DISTANCE, 0);
+        int to = Math.min(position + PRERENDER_DISTANCE, monthCount - 1);
+        for (int i = from; i <= to; i++) {
+            if (i != position) {
+                renderCache.prerender(getMonthForPosition(i));
+            }
+        }
+    }
+
+    @Override
+    public void onViewRecycled(@NonNull MonthViewHolder holder) {
+        // The page scrolled away, its pending validation is no longer needed
+        holder.monthView.removeCallbacks(holder.deferredBind);
+        if (holder.month != null) {
+            validDaysLoader.cancel(holder.month);
+            if (decorationLoader != null) {
+                decorationLoader.cancel(holder.month);
+            }
+            holder.month = null;
+        }
+    }
+
+    @Override
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        this.recyclerView = recyclerView;
+        if (renderCacheEnabled) {
+            attachRenderCache(recyclerView);
+        }
+    }
+
+    @Override
+    public void onDetachedFromRecyclerView(@NonNull RecyclerView recyclerView) {
+        validDaysLoader.cancelAll();
+        if (decorationLoader != null) {
+            decorationLoader.cancelAll();
+        }
+        detachRenderCache(recyclerView);
+        this.recyclerView = null;
+    }
+
+    private void attachRenderCache(@NonNull RecyclerView recyclerView) {
+        renderCache = new MonthRenderCache(recyclerView.getContext(), this::bindPage);
+        renderCache.register();
+        renderCache.setPageSize(recyclerView.getWidth(), recyclerView.getHeight());
+        recyclerView.addOnLayoutChangeListener(pageSizeListener);
+    }
+
+    private void detachRenderCache(@NonNull RecyclerView recyclerView) {
+        if (renderCache != null) {
+            recyclerView.removeOnLayoutChangeListener(pageSizeListener);
+            renderCache.unregister();
+            renderCache = null;
+        }
     }
 
     @Override
@@ -58,20 +369,63 @@ public class MonthsPagerAdapter extends RecyclerView.Adapter<MonthsPagerAdapter.
     }
 
     public void notifyDataSetChanged(int position) {
-        notifyItemChanged(position);
+        notifyItemChanged(position, PAYLOAD_REBIND);
+    }
+
+    /** Rebinds every page in place, keeping their views and day cells. */
+    void rebindAllPages() {
+        notifyItemRangeChanged(0, monthCount, PAYLOAD_REBIND);
+    }
+
+    /**
+     * Rebinds only the pages showing a day that entered or left the selection. Works per changed
+     * range, so the cost depends on the months spanned, never on the number of days.
+     */
+    public void notifyDaysChanged(@NonNull SelectionDelta delta) {
+        long lastSpan = notifyPagesForRanges(delta.getAddedRanges(), NO_SPAN);
+        notifyPagesForRanges(delta.getRemovedRanges(), lastSpan);
+    }
+
+    /**
+     * Notifies the pages spanned by each range, skipping a span already covered by the previous
+     * one, as when a day moves within a month. Spans are packed as {@code from << 32 | to}.
+     */
+    private long notifyPagesForRanges(@NonNull DayRanges ranges, long lastSpan) {
+        for (int i = 0; i < ranges.getRangeCount(); i++) {
+            int from = Math.max(getPositionForEpochDay(ranges.getStart(i)), 0);
+            int to = Math.min(getPositionForEpochDay(ranges.getEnd(i)), monthCount - 1);
+            if (from > to) {
+                continue;
+            }
+            if (lastSpan == NO_SPAN || from < (int) (lastSpan >> 32) || to > (int) lastSpan) {
+                notifyItemRangeChanged(from, to - from + 1, PAYLOAD_REBIND);
+                lastSpan = ((long) from << 32) | (to & 0xFFFFFFFFL);
+            }
+        }
+        return lastSpan;
+    }
+
+    private int getPositionForEpochDay(int epochDay) {
+        Month start = calendarConstraints.getStart();
+        int year = EthiopicDateConverter.epochDayToEthiopicYear(epochDay);
+        int month = (epochDay - EthiopicDateConverter.ethiopicToEpochDay(year, 1, 1)) / 30 + 1;
+        return (year - start.getYear()) * 13 + (month - start.getMonth());
     }
 
     static class MonthViewHolder extends RecyclerView.ViewHolder {
         final MonthView monthView;
+        /** Binds the real views of a page first drawn from the render cache. */
+        final Runnable deferredBind;
+        @Nullable Month month;
 
-        MonthViewHolder(@NonNull MonthView monthView) {
+        MonthViewHolder(@NonNull MonthView monthView, @NonNull MonthRenderCache.PageBinder pageBinder) {
             super(monthView);
             this.monthView = monthView;
+            this.deferredBind = () -> {
+                if (month != null) {
+                    pageBinder.bindPage(monthView, month);
+                }
+            };
         }
     }
-
-
-
-
-
 }
@@ -0,0 +1,147 @@
+package com.shalom.android.material.datepicker;
+
+import android.os.Parcel;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * A {@link DateSelector} for an arbitrary set of days, such as a shift roster.
+ *
+ * <p>Each tap toggles a day. The selection is an immutable {@link EpochDaySet}, so
+ * {@link #getSelection()} hands out a snapshot without copying, a month's states come from one
+ * search of the set and the parcel form is the {@link EthiopicDateCodec} set encoding rather than boxed timestamps.
+ */
+public class MultiDateSelector implements DateSelector<Set<Long>> {
+
+    @NonNull
+    private EpochDaySet selectedDays = EpochDaySet.empty();
+
+    /** Scratch for {@link #fillDayStates}, which only runs on the main thread. */
+    private final BitSet monthMask = new BitSet();
+
+    public MultiDateSelector() {
+    }
+
+    /**
+     * Returns the selected days. The returned set is immutable and is not affected by later
+     * selection changes.
+     */
+    @Override
+    @NonNull
+    public EpochDaySet getSelection() {
+        return selectedDays;
+    }
+
+    @Override
+    public void setSelection(@Nullable Set<Long> selection) {
+        if (selection == null) {
+            selectedDays = EpochDaySet.empty();
+        } else if (selection instanceof EpochDaySet) {
+            selectedDays = (EpochDaySet) selection;
+        } else {
+            int[] epochDays = new int[selection.size()];
+            int index = 0;
+            for (Long day : selection) {
+                epochDays[index++] = Month.toEpochDay(day);
+            }
+            selectedDays = EpochDaySet.of(epochDays);
+        }
+    }
+
+    @Override
+    public Collection<Long> getSelectedDays() {
+        return selectedDays;
+    }
+
+    @Override
+    public int getDayState(int epochDay) {
+        return selectedDays.containsEpochDay(epochDay) ? DAY_STATE_SELECTED : DAY_STATE_NONE;
+    }
+
+    @Override
+    public void fillDayStates(int startEpochDay, int count, @NonNull int[] out) {
+        monthMask.clear();
+        selectedDays.fillMask(startEpochDay, count, monthMask);
+        Arrays.fill(out, 0, count, DAY_STATE_NONE);
+        for (int i = monthMask.nextSetBit(0); i >= 0; i = monthMask.nextSetBit(i + 1)) {
+            out[i] = DAY_STATE_SELECTED;
+        }
+    }
+
+    @Override
+    public String getSelectionDisplayString() {
+        return getSelectionDisplayString(CalendarLabels.current());
+    }
+
+    @Override
+    public String getSelectionDisplayString(@NonNull CalendarLabels labels) {
+        int count = selectedDays.size();
+        if (count == 0) {
+            return "";
+        }
+        if (count == 1) {
+            return EthiopicDateConverter.appendEpochDay(new StringBuilder(24), selectedDays.getEpochDay(0), labels)
+                    .toString();
+        }
+        return labels.formatDayCount(count);
+    }
+
+    @Override
+    public boolean isSelectionComplete() {
+        return !selectedDays.isEmpty();
+    }
+
+    @Override
+    public void select(long selection) {
+        selectedDays = selectedDays.toggle(Month.toEpochDay(selection));
+    }
+
+    @NonNull
+    @Override
+    public SelectionDelta selectWithDelta(long selection) {
+        int epochDay = Month.toEpochDay(selection);
+        boolean wasSelected = selectedDays.containsEpochDay(epochDay);
+        selectedDays = selectedDays.toggle(epochDay);
+        return wasSelected ? SelectionDelta.removed(epochDay) : SelectionDelta.added(epochDay);
+    }
+
+    // Parcelable implementation
+
+    @Override
+    public int describeContents() {
+        return 0;
+    }
+
+    @Override
+    public void writeToParcel(@NonNull Parcel dest, int flags) {
+        // Delta varints or a bitmap, whichever is smaller, see EthiopicDateCodec
+        int[] days = selectedDays.epochDays();
+        ByteBuffer buffer = ByteBuffer.allocate(EthiopicDateCodec.encodedSize(days));
+        EthiopicDateCodec.putDays(buffer, days);
+        dest.writeByteArray(buffer.array());
+    }
+
+    public static final Creator<MultiDateSelector> CREATOR = new Creator<MultiDateSelector>() {
+        @NonNull
+        @Override
+        public MultiDateSelector createFromParcel(@NonNull Parcel source) {
+            MultiDateSelector multiDateSelector = new MultiDateSelector();
+            multiDateSelector.selectedDays =
+                    EthiopicDateCodec.getDaySet(ByteBuffer.wrap(source.createByteArray()));
+            return multiDateSelector;
+        }
+
+        @NonNull
+        @Override
+        public MultiDateSelector[] newArray(int size) {
+            return new MultiDateSelector[size];
+        }
+    };
+}
@@ -0,0 +1,97 @@
+package com.shalom.android.material.datepicker;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Process-wide registration point for a {@link PickerMetricsListener}.
+ *
+ * <p>Instrumented code checks {@link #isEnabled()} before reading the clock, so an unregistered
+ * listener costs one volatile read per measurement point.
+ */
+public final class PickerMetrics {
+
+    @Nullable
+    private static volatile PickerMetricsListener listener;
+
+    private PickerMetrics() {}
+
+    /**
+     * Sets the listener that receives picker measurements, or null to stop measuring.
+     */
+    public static void setListener(@Nullable PickerMetricsListener metricsListener) {
+        listener = metricsListener;
+    }
+
+    static boolean isEnabled() {
+        return listener != null;
+    }
+
+    /** Returns the current time for a measurement, or 0 when nobody is listening. */
+    static long start() {
+        return listener != null ? System.nanoTime() : 0L;
+    }
+
+    static void pickerFirstDraw(long startNanos) {
+        PickerMetricsListener current = listener;
+        if (current != null && startNanos != 0L) {
+            current.onPickerFirstDraw(System.nanoTime() - startNanos);
+        }
+    }
+
+    static void pageBound(@NonNull Month month, long startNanos) {
+        PickerMetricsListener current = listener;
+        if (current != null && startNanos != 0L) {
+            current.onPageBound(month.getYear(), month.getMonth(), System.nanoTime() - startNanos);
+        }
+    }
+
+    static void pageLaidOut(@NonNull Month month, long startNanos) {
+        PickerMetricsListener current = listener;
+        if (current != null && startNanos != 0L) {
+            current.onPageLaidOut(month.getYear(), month.getMonth(), System.nanoTime() - startNanos);
+        }
+    }
+
+    static void validatorTime(@NonNull Month month, long startNanos) {
+        PickerMetricsListener current = listener;
+        if (current != null && startNanos != 0L) {
+            current.onValidatorTime(month.getYear(), month.getMonth(), System.nanoTime() - startNanos);
+        }
+    }
+
+    static void cacheLookup(@NonNull String cacheName, boolean hit) {
+        PickerMetricsListener current = listener;
+        if (current != null) {
+            current.onCacheLookup(cacheName, hit);
+        }
+    }
+
+    static void viewHolderCreated(@NonNull String adapterName) {
+        PickerMetricsListener current = listener;
+        if (current != null) {
+            current.onViewHolderCreated(adapterName);
+        }
+    }
+
+    static void viewHolderBound(@NonNull String adapterName) {
+        PickerMetricsListener current = listener;
+        if (current != null) {
+            current.onViewHolderBound(adapterName);
+        }
+    }
+
+    static void monthCreated() {
+        PickerMetricsListener current = listener;
+        if (current != null) {
+            current.onMonthCreated();
+        }
+    }
+
+    static void swipeFrames(int frames, int droppedFrames) {
+        PickerMetricsListener current = listener;
+        if (current != null) {
+            current.onSwipeFrames(frames, droppedFrames);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.shalom.android.material.datepicker;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Receives performance measurements from the date picker. Register one with
+ * {@link PickerMetrics#setListener(PickerMetricsListener)}; when none is registered no
+ * measurements are taken.
+ *
+ * <p>Callbacks arrive on the main thread, except {@link #onValidatorTime(int, int, long)}, which
+ * arrives on a background thread for {@link AsyncDateValidator}s. All methods default to doing
+ * nothing so implementations only override what they record.
+ */
+public interface PickerMetricsListener {
+
+    /** Cache of per-month valid day masks. */
+    String CACHE_VALID_DAYS = "valid_days";
+
+    /** Cache of per-month grid models. */
+    String CACHE_MONTH_MODELS = "month_models";
+
+    /** Cache of rendered month page bitmaps. */
+    String CACHE_PAGE_BITMAPS = "page_bitmaps";
+
+    /** Cache of label sets with precomputed text layouts. */
+    String CACHE_TEXT_LAYOUTS = "text_layouts";
+
+    /** Cache of per-month {@link DayDecorator} results. */
+    String CACHE_DECORATIONS = "decorations";
+
+    /** The pager adapter creating one page per month. */
+    String ADAPTER_MONTHS_PAGER = "months_pager";
+    /** The adapter creating the day cells of a month. */
+    String ADAPTER_MONTH = "month";
+    /** The adapter creating the cells of the year picker. */
+    String ADAPTER_YEAR_GRID = "year_grid";
+    /** The adapter creating the cells of the month picker shown after a year is chosen. */
+    String ADAPTER_MONTH_GRID = "month_grid";
+
+    /**
+     * Called once the picker dialog has drawn its first frame.
+     *
+     * @param durationNanos time from the dialog being created to its first draw
+     */
+    default void onPickerFirstDraw(long durationNanos) {}
+
+    /**
+     * Called after a month page has been bound by the pager.
+     *
+     * @param durationNanos time spent in {@code MonthsPagerAdapter.onBindViewHolder}
+     */
+    default void onPageBound(int year, int month, long durationNanos) {}
+
+    /**
+     * Called after a month page has laid out, which is when its day cells are bound.
+     *
+     * @param durationNanos time spent laying out and binding the day grid
+     */
+    default void onPageLaidOut(int year, int month, long durationNanos) {}
+
+    /**
+     * Called after the date validator evaluated a month.
+     *
+     * @param durationNanos time spent in the validator, including bounds checks
+     */
+    default void onValidatorTime(int year, int month, long durationNanos) {}
+
+    /**
+     * Called for each lookup in one of the picker's caches.
+     *
+     * @param cacheName the cache, e.g. {@link #CACHE_VALID_DAYS}
+     * @param hit true if the data was cached
+     */
+    default void onCacheLookup(@NonNull String cacheName, boolean hit) {}
+
+    /**
+     * Called when a swipe between months settles.
+     *
+     * @param frames number of frames drawn during the swipe
+     * @param droppedFrames number of frame intervals that were missed
+     */
+    default void onSwipeFrames(int frames, int droppedFrames) {}
+
+    /**
+     * Called when one of the picker's adapters creates a view holder. Day and year cells are
+     * inflated from a layout for each holder.
+     *
+     * @param adapterName the adapter, e.g. {@link #ADAPTER_MONTH}
+     */
+    default void onViewHolderCreated(@NonNull String adapterName) {}
+
+    /**
+     * Called when one of the picker's adapters binds a view holder.
+     *
+     * @param adapterName the adapter, e.g. {@link #ADAPTER_MONTH}
+     */
+    default void onViewHolderBound(@NonNull String adapterName) {}
+
+    /**
+     * Called when a {@link Month} instance is created.
+     */
+    default void onMonthCreated() {}
+}
@@ -0,0 +1,159 @@
+package com.shalom.android.material.datepicker;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.LruCache;
+import android.widget.TextView;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+import androidx.core.text.PrecomputedTextCompat;
+import androidx.core.widget.TextViewCompat;
+import androidx.tracing.Trace;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A fixed set of labels with their text layouts measured ahead of time, such as the day numbers
+ * or the weekday names.
+ *
+ * <p>Sets are shared across the process and keyed by their strings and the text metrics of the
+ * views showing them, so a configuration change in font scale, density or locale gets its own
+ * set. Measuring runs on a background thread; until it finishes the plain strings are used, and
+ * views that showed them are told through {@link #runWhenMeasured} to apply the measured layouts.
+ * Shaping Ge'ez script is noticeably slower than Latin text, which is where this pays off most.
+ */
+final class PrecomputedLabels {
+
+    private static final int CACHE_SIZE = 16;
+
+    private static final LruCache<Key, PrecomputedLabels> cache = new LruCache<>(CACHE_SIZE);
+
+    private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private final String[] labels;
+    private final PrecomputedTextCompat.Params params;
+    private volatile PrecomputedTextCompat[] precomputed;
+
+    /** Run on the main thread once measuring finishes, then dropped. Main thread only. */
+    private final Set<Runnable> onMeasured = new LinkedHashSet<>();
+
+    private PrecomputedLabels(@NonNull String[] labels, @NonNull PrecomputedTextCompat.Params params) {
+        this.labels = labels;
+        this.params = params;
+    }
+
+    /**
+     * Returns the shared set for {@code labels} as shown by views with {@code params}, starting a
+     * background measurement the first time the set is requested.
+     */
+    @MainThread
+    @NonNull
+    static PrecomputedLabels obtain(@NonNull String[] labels, @NonNull PrecomputedTextCompat.Params params) {
+        Key key = new Key(labels, params);
+        PrecomputedLabels entry = cache.get(key);
+        PickerMetrics.cacheLookup(PickerMetricsListener.CACHE_TEXT_LAYOUTS, entry != null);
+        if (entry == null) {
+            entry = new PrecomputedLabels(labels, params);
+            cache.put(key, entry);
+            MonthDataLoader.getBackgroundExecutor().execute(entry::measure);
+        }
+        return entry;
+    }
+
+    /**
+     * Returns the shared set for {@code labels} as shown by {@code textView}.
+     */
+    @MainThread
+    @NonNull
+    static PrecomputedLabels obtain(@NonNull String[] labels, @NonNull TextView textView) {
+        return obtain(labels, TextViewCompat.getTextMetricsParams(textView));
+    }
+
+    @WorkerThread
+    private void measure() {
+        Trace.beginSection("PrecomputedLabels.measure");
+        try {
+            PrecomputedTextCompat[] result = new PrecomputedTextCompat[labels.length];
+            for (int i = 0; i < labels.length; i++) {
+                result[i] = PrecomputedTextCompat.create(labels[i], params);
+            }
+            precomputed = result;
+        } finally {
+            Trace.endSection();
+        }
+        mainHandler.post(this::dispatchMeasured);
+    }
+
+    @MainThread
+    private void dispatchMeasured() {
+        Runnable[] callbacks = onMeasured.toArray(new Runnable[0]);
+        onMeasured.clear();
+        for (Runnable callback : callbacks) {
+            callback.run();
+        }
+    }
+
+    /**
+     * Runs {@code callback} on the main thread once the layouts are measured, for a view that
+     * got a plain string from {@link #apply}. Adding the same callback again before then runs it
+     * once.
+     */
+    @MainThread
+    void runWhenMeasured(@NonNull Runnable callback) {
+        if (precomputed != null) {
+            mainHandler.post(callback);
+        } else {
+            onMeasured.add(callback);
+        }
+    }
+
+    /** Returns true once the layouts are measured and {@link #apply} shows them. */
+    boolean isMeasured() {
+        return precomputed != null;
+    }
+
+    /**
+     * Shows label {@code index} in {@code textView}, using the measured layout if it is ready.
+     * The view must have the text metrics this set was obtained for.
+     *
+     * @return true if the measured layout was shown, false if the plain string was
+     */
+    boolean apply(@NonNull TextView textView, int index) {
+        PrecomputedTextCompat[] measured = precomputed;
+        if (measured != null) {
+            TextViewCompat.setPrecomputedText(textView, measured[index]);
+            return true;
+        }
+        textView.setText(labels[index]);
+        return false;
+    }
+
+    private static final class Key {
+        private final String[] labels;
+        private final PrecomputedTextCompat.Params params;
+        private final int hashCode;
+
+        Key(@NonNull String[] labels, @NonNull PrecomputedTextCompat.Params params) {
+            this.labels = labels;
+            this.params = params;
+            this.hashCode = 31 * Arrays.hashCode(labels) + params.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return Arrays.equals(labels, other.labels) && params.equals(other.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.shalom.android.material.datepicker;
+
+import android.os.Parcel;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.util.Pair;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * A {@link DateSelector} that uses a {@link Pair} of {@link Long} for its selection state.
+ * Based on Material Components RangeDateSelector.
+ *
+ * <p>The first tap starts a range and the second one ends it. A tap before the start, or after a
+ * complete range, starts a new range. Cells are drawn by comparing epoch days against the two
+ * endpoints, so a range spanning years costs the same to render as one spanning two days.
+ */
+public class RangeDateSelector implements DateSelector<Pair<Long, Long>> {
+
+    @Nullable
+    private Long selectedStartItem;
+
+    @Nullable
+    private Long selectedEndItem;
+
+    /** Epoch days of the endpoints, kept in sync so cells compare primitives. */
+    private int startEpochDay;
+    private int endEpochDay;
+
+    public RangeDateSelector() {
+    }
+
+    @Override
+    @NonNull
+    public Pair<Long, Long> getSelection() {
+        return new Pair<>(selectedStartItem, selectedEndItem);
+    }
+
+    @Override
+    public void setSelection(@Nullable Pair<Long, Long> selection) {
+        if (selection == null) {
+            setRange(null, null);
+        } else if (selection.first != null && selection.second != null
+                && selection.first > selection.second) {
+            throw new IllegalArgumentException("Range start is after its end");
+        } else {
+            setRange(selection.first, selection.second);
+        }
+    }
+
+    @Override
+    public Collection<Long> getSelectedDays() {
+        ArrayList<Long> selections = new ArrayList<>();
+        if (selectedStartItem != null) {
+            selections.add(selectedStartItem);
+        }
+        if (selectedEndItem != null) {
+            selections.add(selectedEndItem);
+        }
+        return selections;
+    }
+
+    @Override
+    public int getDayState(int epochDay) {
+        if (selectedStartItem == null) {
+            return DAY_STATE_NONE;
+        }
+        if (selectedEndItem == null || startEpochDay == endEpochDay) {
+            return epochDay == startEpochDay ? DAY_STATE_SELECTED : DAY_STATE_NONE;
+        }
+        if (epochDay == startEpochDay) {
+            return DAY_STATE_RANGE_START;
+        }
+        if (epochDay == endEpochDay) {
+            return DAY_STATE_RANGE_END;
+        }
+        if (epochDay > startEpochDay && epochDay < endEpochDay) {
+            return DAY_STATE_IN_RANGE;
+        }
+        return DAY_STATE_NONE;
+    }
+
+    @Override
+    public String getSelectionDisplayString() {
+        return getSelectionDisplayString(CalendarLabels.current());
+    }
+
+    @Override
+    public String getSelectionDisplayString(@NonNull CalendarLabels labels) {
+        if (selectedStartItem == null) {
+            return "";
+        }
+
+        // Format as "Meskerem 5, 2017 – Tikimt 2, 2017" (Ethiopic format)
+        StringBuilder builder = new StringBuilder(48);
+        EthiopicDateConverter.appendEpochDay(builder, startEpochDay, labels).append(" – ");
+        if (selectedEndItem != null) {
+            EthiopicDateConverter.appendEpochDay(builder, endEpochDay, labels);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean isSelectionComplete() {
+        return selectedStartItem != null && selectedEndItem != null;
+    }
+
+    @Override
+    public void select(long selection) {
+        if (selectedStartItem == null || selectedEndItem != null) {
+            setRange(selection, null);
+        } else if (Month.toEpochDay(selection) >= startEpochDay) {
+            setRange(selectedStartItem, selection);
+        } else {
+            setRange(selection, null);
+        }
+    }
+
+    @NonNull
+    @Override
+    public SelectionDelta selectWithDelta(long selection) {
+        // The selected days are the inclusive span between the endpoints; empty is start > end
+        int beforeStart = selectedStartItem != null ? startEpochDay : 1;
+        int beforeEnd = selectedStartItem == null ? 0 : (selectedEndItem != null ? endEpochDay : startEpochDay);
+        select(selection);
+        int afterEnd = selectedEndItem != null ? endEpochDay : startEpochDay;
+        return SelectionDelta.betweenRanges(beforeStart, beforeEnd, startEpochDay, afterEnd);
+    }
+
+    private void setRange(@Nullable Long start, @Nullable Long end) {
+        selectedStartItem = start;
+        selectedEndItem = end;
+        if (start != null) {
+            startEpochDay = Month.toEpochDay(start);
+        }
+        if (end != null) {
+            endEpochDay = Month.toEpochDay(end);
+        }
+    }
+
+    // Parcelable implementation
+
+    @Override
+    public int describeContents() {
+        return 0;
+    }
+
+    @Override
+    public void writeToParcel(@NonNull Parcel dest, int flags) {
+        dest.writeValue(selectedStartItem);
+        dest.writeValue(selectedEndItem);
+    }
+
+    public static final Creator<RangeDateSelector> CREATOR = new Creator<RangeDateSelector>() {
+        @NonNull
+        @Override
+        public RangeDateSelector createFromParcel(@NonNull Parcel source) {
+            RangeDateSelector rangeDateSelector = new RangeDateSelector();
+            rangeDateSelector.setRange(
+                    (Long) source.readValue(Long.class.getClassLoader()),
+                    (Long) source.readValue(Long.class.getClassLoader()));
+            return rangeDateSelector;
+        }
+
+        @NonNull
+        @Override
+        public RangeDateSelector[] newArray(int size) {
+            return new RangeDateSelector[size];
+        }
+    };
+}
@@ -0,0 +1,197 @@
+package com.shalom.android.material.datepicker;
+
+import android.os.Parcel;
+
+import androidx.annotation.NonNull;
+
+import java.util.BitSet;
+
+/**
+ * A {@link DateValidator} built from availability rules such as "weekdays only" or "no Pagume".
+ *
+ * <p>The rules are evaluated by {@link DateRules}, which compiles them into one bitset per
+ * Ethiopic year, so any date is answered with a single bit test regardless of how many rules were
+ * added. The validator parcels as its rule list, not as the expanded bitsets.
+ *
+ * <pre>
+ * DateValidator validator = new RuleDateValidator.Builder()
+ *     .weekdaysOnly()
+ *     .excludeMonth(13)
+ *     .excludeFixedHolidays()
+ *     .dayOfMonthBetween(1, 15)
+ *     .build();
+ * </pre>
+ */
+public final class RuleDateValidator implements DateValidator {
+
+    private final DateRules rules;
+
+    private RuleDateValidator(@NonNull DateRules rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Creates a validator accepting the days that pass {@code rules}.
+     */
+    @NonNull
+    public static RuleDateValidator from(@NonNull DateRules rules) {
+        return new RuleDateValidator(rules);
+    }
+
+    @Override
+    public boolean isValid(long date) {
+        return rules.isValid(Month.toEpochDay(date));
+    }
+
+    @Override
+    public void isValidRange(int startEpochDay, int count, @NonNull BitSet out) {
+        rules.isValidRange(startEpochDay, count, out);
+    }
+
+    /**
+     * Returns true if the given epoch day passes every rule.
+     */
+    public boolean isValidEpochDay(int epochDay) {
+        return rules.isValid(epochDay);
+    }
+
+    /**
+     * Returns the rules this validator checks.
+     */
+    @NonNull
+    public DateRules getRules() {
+        return rules;
+    }
+
+    // Parcelable implementation
+
+    @Override
+    public int describeContents() {
+        return 0;
+    }
+
+    @Override
+    public void writeToParcel(@NonNull Parcel dest, int flags) {
+        dest.writeIntArray(rules.toArray());
+    }
+
+    public static final Creator<RuleDateValidator> CREATOR = new Creator<RuleDateValidator>() {
+        @NonNull
+        @Override
+        public RuleDateValidator createFromParcel(@NonNull Parcel source) {
+            return new RuleDateValidator(DateRules.fromArray(source.createIntArray()));
+        }
+
+        @NonNull
+        @Override
+        public RuleDateValidator[] newArray(int size) {
+            return new RuleDateValidator[size];
+        }
+    };
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RuleDateValidator)) return false;
+        return rules.equals(((RuleDateValidator) o).rules);
+    }
+
+    @Override
+    public int hashCode() {
+        return rules.hashCode();
+    }
+
+    /**
+     * Builder for {@link RuleDateValidator}. A date is valid only if it passes every rule.
+     */
+    public static final class Builder {
+
+        private final DateRules.Builder rules = new DateRules.Builder();
+
+        public Builder() {}
+
+        /**
+         * Excludes Saturdays and Sundays.
+         */
+        @NonNull
+        public Builder weekdaysOnly() {
+            rules.weekdaysOnly();
+            return this;
+        }
+
+        /**
+         * Excludes a day of the week.
+         *
+         * @param dayOfWeek ISO day of week, 1 (Monday) to 7 (Sunday)
+         */
+        @NonNull
+        public Builder excludeDayOfWeek(int dayOfWeek) {
+            rules.excludeDayOfWeek(dayOfWeek);
+            return this;
+        }
+
+        /**
+         * Excludes a whole Ethiopic month in every year, e.g. 13 for Pagume.
+         */
+        @NonNull
+        public Builder excludeMonth(int month) {
+            rules.excludeMonth(month);
+            return this;
+        }
+
+        /**
+         * Excludes an Ethiopic month and day in every year.
+         */
+        @NonNull
+        public Builder excludeDate(int month, int day) {
+            rules.excludeDate(month, day);
+            return this;
+        }
+
+        /**
+         * Excludes the public holidays that fall on a fixed Ethiopic date.
+         */
+        @NonNull
+        public Builder excludeFixedHolidays() {
+            rules.excludeFixedHolidays();
+            return this;
+        }
+
+        /**
+         * Only allows days {@code firstDay} to {@code lastDay} (inclusive) of each month.
+         */
+        @NonNull
+        public Builder dayOfMonthBetween(int firstDay, int lastDay) {
+            rules.dayOfMonthBetween(firstDay, lastDay);
+            return this;
+        }
+
+        /**
+         * Excludes all days from {@code start} to {@code end}, inclusive.
+         *
+         * @param start Timestamp in milliseconds
+         * @param end Timestamp in milliseconds
+         */
+        @NonNull
+        public Builder excludeRange(long start, long end) {
+            return excludeEpochDayRange(Month.toEpochDay(start), Month.toEpochDay(end));
+        }
+
+        /**
+         * Excludes all days from {@code startEpochDay} to {@code endEpochDay}, inclusive.
+         */
+        @NonNull
+        public Builder excludeEpochDayRange(int startEpochDay, int endEpochDay) {
+            rules.excludeEpochDayRange(startEpochDay, endEpochDay);
+            return this;
+        }
+
+        /**
+         * Creates a {@link RuleDateValidator} instance.
+         */
+        @NonNull
+        public RuleDateValidator build() {
+            return new RuleDateValidator(rules.build());
+        }
+    }
+}
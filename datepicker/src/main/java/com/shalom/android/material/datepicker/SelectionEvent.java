@@ -0,0 +1,60 @@
+package com.shalom.android.material.datepicker;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Describes one change to the selection of a {@link MaterialCalendar}: the new selection, the
+ * exact days that were added and removed, and a version that increases with every change.
+ *
+ * @param <S> The type of selection
+ */
+public final class SelectionEvent<S> {
+
+    @Nullable private final S selection;
+    @NonNull private final SelectionDelta delta;
+    private final long version;
+
+    SelectionEvent(@Nullable S selection, @NonNull SelectionDelta delta, long version) {
+        this.selection = selection;
+        this.delta = delta;
+        this.version = version;
+    }
+
+    /** Returns the selection after the change. */
+    @Nullable
+    public S getSelection() {
+        return selection;
+    }
+
+    /**
+     * Days that entered the selection, as sorted epoch days. Lists every day, see
+     * {@link SelectionDelta#getAddedRanges()} for the compact form.
+     */
+    @NonNull
+    public int[] getAddedDays() {
+        return delta.getAddedDays();
+    }
+
+    /**
+     * Days that left the selection, as sorted epoch days. Lists every day, see
+     * {@link SelectionDelta#getRemovedRanges()} for the compact form.
+     */
+    @NonNull
+    public int[] getRemovedDays() {
+        return delta.getRemovedDays();
+    }
+
+    @NonNull
+    public SelectionDelta getDelta() {
+        return delta;
+    }
+
+    /**
+     * Returns the selection version. It starts at 0 and increases by one for every change, so a
+     * listener can skip work for versions it has already handled.
+     */
+    public long getVersion() {
+        return version;
+    }
+}
@@ -5,12 +5,6 @@ import android.os.Parcel;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
-import org.threeten.extra.chrono.EthiopicDate;
-
-import java.time.Instant;
-import java.time.LocalDate;
-import java.time.ZoneId;
-import java.time.temporal.ChronoField;
 import java.util.ArrayList;
 import java.util.Collection;
 
@@ -23,6 +17,9 @@ public class SingleDateSelector implements DateSelector<Long> {
     @Nullable
     private Long selectedItem;
 
+    /** Epoch day of {@link #selectedItem}, kept in sync so cells compare primitives. */
+    private int selectedEpochDay;
+
     public SingleDateSelector() {
     }
 
@@ -35,6 +32,9 @@ public class SingleDateSelector implements DateSelector<Long> {
     @Override
     public void setSelection(@Nullable Long selection) {
         this.selectedItem = selection;
+        if (selection != null) {
+            this.selectedEpochDay = Month.toEpochDay(selection);
+        }
     }
 
     @Override
@@ -46,26 +46,26 @@ public class SingleDateSelector implements DateSelector<Long> {
         return selections;
     }
 
+    @Override
+    public int getDayState(int epochDay) {
+        return selectedItem != null && selectedEpochDay == epochDay
+                ? DAY_STATE_SELECTED
+                : DAY_STATE_NONE;
+    }
+
     @Override
     public String getSelectionDisplayString() {
+        return getSelectionDisplayString(CalendarLabels.current());
+    }
+
+    @Override
+    public String getSelectionDisplayString(@NonNull CalendarLabels labels) {
         if (selectedItem == null) {
             return "";
         }
 
-        // Convert timestamp to Ethiopic date using UTC to avoid timezone issues
-        LocalDate gregorianDate = Instant.ofEpochMilli(selectedItem)
-                .atZone(Month.TIME_ZONE)
-                .toLocalDate();
-        EthiopicDate ethiopicDate = EthiopicDate.from(gregorianDate);
-
         // Format as "Meskerem 5, 2017" (Ethiopic format)
-        String[] monthNames = {
-            "Meskerem", "Tikimt", "Hidar", "Tahsas", "Tir", "Yekatit",
-            "Megabit", "Miazia", "Ginbot", "Sene", "Hamle", "Nehase", "Pagume"
-        };
-
-        String monthName = monthNames[ethiopicDate.get(ChronoField.MONTH_OF_YEAR) - 1];
-        return monthName + " " + ethiopicDate.get(ChronoField.DAY_OF_MONTH) + ", " + ethiopicDate.get(ChronoField.YEAR);
+        return EthiopicDateConverter.appendEpochDay(new StringBuilder(24), selectedEpochDay, labels).toString();
     }
 
     @Override
@@ -75,7 +75,22 @@ public class SingleDateSelector implements DateSelector<Long> {
 
     @Override
     public void select(long selection) {
-        this.selectedItem = selection;
+        setSelection(selection);
+    }
+
+    @NonNull
+    @Override
+    public SelectionDelta selectWithDelta(long selection) {
+        boolean hadSelection = selectedItem != null;
+        int previousEpochDay = selectedEpochDay;
+        select(selection);
+        if (!hadSelection) {
+            return SelectionDelta.added(selectedEpochDay);
+        }
+        if (previousEpochDay == selectedEpochDay) {
+            return SelectionDelta.NONE;
+        }
+        return SelectionDelta.of(new int[] {selectedEpochDay}, new int[] {previousEpochDay});
     }
 
     // Parcelable implementation
@@ -95,7 +110,7 @@ public class SingleDateSelector implements DateSelector<Long> {
         @Override
         public SingleDateSelector createFromParcel(@NonNull Parcel source) {
             SingleDateSelector singleDateSelector = new SingleDateSelector();
-            singleDateSelector.selectedItem = (Long) source.readValue(Long.class.getClassLoader());
+            singleDateSelector.setSelection((Long) source.readValue(Long.class.getClassLoader()));
             return singleDateSelector;
         }
 
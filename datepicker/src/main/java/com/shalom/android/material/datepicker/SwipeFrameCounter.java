@@ -0,0 +1,74 @@
+package com.shalom.android.material.datepicker;
+
+import android.view.Choreographer;
+import android.view.Display;
+
+import androidx.annotation.NonNull;
+import androidx.viewpager2.widget.ViewPager2;
+
+/**
+ * Counts frames and missed frame intervals while a {@link ViewPager2} is being swiped, and
+ * reports them through {@link PickerMetrics} when the swipe settles. Does nothing unless a
+ * metrics listener is registered when the swipe starts.
+ */
+final class SwipeFrameCounter extends ViewPager2.OnPageChangeCallback
+        implements Choreographer.FrameCallback {
+
+    private static final float DEFAULT_REFRESH_RATE = 60f;
+
+    private final ViewPager2 pager;
+    private boolean counting;
+    private long frameIntervalNanos;
+    private long lastFrameNanos;
+    private int frames;
+    private int droppedFrames;
+
+    SwipeFrameCounter(@NonNull ViewPager2 pager) {
+        this.pager = pager;
+    }
+
+    @Override
+    public void onPageScrollStateChanged(int state) {
+        if (state != ViewPager2.SCROLL_STATE_IDLE) {
+            if (!counting && PickerMetrics.isEnabled()) {
+                start();
+            }
+        } else if (counting) {
+            stop();
+        }
+    }
+
+    private void start() {
+        Display display = pager.getDisplay();
+        float refreshRate = display != null ? display.getRefreshRate() : DEFAULT_REFRESH_RATE;
+        frameIntervalNanos = (long) (1_000_000_000L / refreshRate);
+        lastFrameNanos = 0L;
+        frames = 0;
+        droppedFrames = 0;
+        counting = true;
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    private void stop() {
+        counting = false;
+        Choreographer.getInstance().removeFrameCallback(this);
+        PickerMetrics.swipeFrames(frames, droppedFrames);
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (!counting) {
+            return;
+        }
+        if (lastFrameNanos != 0L) {
+            // A gap of n intervals means n - 1 frames were missed
+            long missed = (frameTimeNanos - lastFrameNanos + frameIntervalNanos / 2) / frameIntervalNanos - 1;
+            if (missed > 0) {
+                droppedFrames += (int) missed;
+            }
+        }
+        lastFrameNanos = frameTimeNanos;
+        frames++;
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+}
@@ -1,6 +1,7 @@
 package com.shalom.android.material.datepicker;
 
-import android.content.res.ColorStateList;
+import android.graphics.Color;
+import android.graphics.Typeface;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -10,41 +11,69 @@ import androidx.annotation.NonNull;
 import androidx.core.content.ContextCompat;
 import androidx.recyclerview.widget.RecyclerView;
 
-import org.threeten.extra.chrono.EthiopicDate;
-
-import java.time.temporal.ChronoField;
-import java.util.ArrayList;
-import java.util.Calendar;
-import java.util.List;
-
 /**
  * Adapter for displaying a grid of years for selection.
+ *
+ * <p>Years span the start and end of the {@link CalendarConstraints} and are computed from the
+ * position, so no per-year objects are kept. Years without any selectable day are disabled.
  */
 public class YearGridAdapter extends RecyclerView.Adapter<YearGridAdapter.YearViewHolder> {
 
-    private static final int MIN_YEAR = 1900;
-    private static final int MAX_YEAR = 2100;
+    private static final byte YEAR_STATE_UNKNOWN = 0;
+    private static final byte YEAR_STATE_VALID = 1;
+    private static final byte YEAR_STATE_INVALID = 2;
 
-    private final List<Integer> years;
+    private final CalendarConstraints calendarConstraints;
+    private final int startYear;
+    private final int endYear;
+    private final boolean checkValidator;
+    /** Whether each year has any valid day, filled in as years are first shown. */
+    private final byte[] yearStates;
     private int selectedYear;
+    private int currentYear;
     private final OnYearSelectedListener listener;
 
+    private int selectedColor;
+    private int currentColor;
+    private int textColor;
+
     public interface OnYearSelectedListener {
         void onYearSelected(int year);
     }
 
-    public YearGridAdapter(int currentYear, OnYearSelectedListener listener) {
-        this.years = new ArrayList<>();
-        for (int year = MIN_YEAR; year <= MAX_YEAR; year++) {
-            years.add(year);
-        }
-        this.selectedYear = currentYear;
+    public YearGridAdapter(
+            @NonNull CalendarConstraints calendarConstraints,
+            int selectedYear,
+            OnYearSelectedListener listener) {
+        this.calendarConstraints = calendarConstraints;
+        this.startYear = calendarConstraints.getStart().getYear();
+        this.endYear = calendarConstraints.getEnd().getYear();
+        // Asynchronous validators must not run on the main thread, only bounds are checked
+        this.checkValidator = !(calendarConstraints.getDateValidator() instanceof AsyncDateValidator);
+        this.yearStates = new byte[endYear - startYear + 1];
+        this.selectedYear = selectedYear;
         this.listener = listener;
+        refreshCurrentYear();
+    }
+
+    @Override
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        // Resolve colors and today's year once per attach instead of once per bound item
+        selectedColor = ContextCompat.getColor(recyclerView.getContext(), android.R.color.holo_blue_light);
+        currentColor = ContextCompat.getColor(recyclerView.getContext(), android.R.color.holo_blue_dark);
+        textColor = ContextCompat.getColor(recyclerView.getContext(), android.R.color.black);
+        refreshCurrentYear();
+    }
+
+    private void refreshCurrentYear() {
+        currentYear = EthiopicDateConverter.epochDayToEthiopicYear(
+                Month.toEpochDay(System.currentTimeMillis()));
     }
 
     @NonNull
     @Override
     public YearViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        PickerMetrics.viewHolderCreated(PickerMetricsListener.ADAPTER_YEAR_GRID);
         View view = LayoutInflater.from(parent.getContext())
                 .inflate(R.layout.mtrl_calendar_year_item, parent, false);
         return new YearViewHolder(view);
@@ -52,61 +81,83 @@ public class YearGridAdapter extends RecyclerView.Adapter<YearGridAdapter.YearVi
 
     @Override
     public void onBindViewHolder(@NonNull YearViewHolder holder, int position) {
-        int year = years.get(position);
-        holder.bind(year);
+        PickerMetrics.viewHolderBound(PickerMetricsListener.ADAPTER_YEAR_GRID);
+        holder.bind(startYear + position);
     }
 
     @Override
     public int getItemCount() {
-        return years.size();
+        return yearStates.length;
     }
 
+    /**
+     * Returns the adapter position of {@code year}, or {@link RecyclerView#NO_POSITION} if it is
+     * outside the constraints.
+     */
     public int getPositionForYear(int year) {
-        return years.indexOf(year);
+        if (year < startYear || year > endYear) {
+            return RecyclerView.NO_POSITION;
+        }
+        return year - startYear;
+    }
+
+    /**
+     * Returns true if {@code year} has at least one selectable day.
+     */
+    public boolean isYearEnabled(int year) {
+        int index = year - startYear;
+        if (index < 0 || index >= yearStates.length) {
+            return false;
+        }
+        if (yearStates[index] == YEAR_STATE_UNKNOWN) {
+            int yearStart = EthiopicDateConverter.ethiopicToEpochDay(year, 1, 1);
+            boolean hasValidDays = calendarConstraints.hasValidDays(
+                    yearStart, EthiopicDateConverter.getEthiopicYearDays(year), checkValidator);
+            yearStates[index] = hasValidDays ? YEAR_STATE_VALID : YEAR_STATE_INVALID;
+        }
+        return yearStates[index] == YEAR_STATE_VALID;
     }
 
     class YearViewHolder extends RecyclerView.ViewHolder {
         private final TextView yearTextView;
+        private int year;
 
         YearViewHolder(@NonNull View itemView) {
             super(itemView);
             yearTextView = itemView.findViewById(R.id.year_text);
+
+            // One click listener per holder, reading the year it is currently bound to
+            itemView.setOnClickListener(v -> {
+                if (listener != null) {
+                    listener.onYearSelected(year);
+                }
+            });
         }
 
         void bind(int year) {
+            this.year = year;
             yearTextView.setText(String.valueOf(year));
 
-            // Highlight current year
-            int currentYear = EthiopicDate.now().get(ChronoField.YEAR) ;
-            boolean isCurrentYear = year == currentYear;
-            boolean isSelectedYear = year == selectedYear;
+            boolean isEnabled = isYearEnabled(year);
+            itemView.setEnabled(isEnabled);
 
-            if (isSelectedYear) {
+            if (!isEnabled) {
+                // Year without any selectable day
+                yearTextView.setTextColor(Color.LTGRAY);
+                yearTextView.setTypeface(null, Typeface.NORMAL);
+            } else if (year == selectedYear) {
                 // Selected year - use primary color
-                int primaryColor = ContextCompat.getColor(itemView.getContext(),
-                        android.R.color.holo_blue_light);
-                yearTextView.setTextColor(primaryColor);
-                yearTextView.setTypeface(null, android.graphics.Typeface.BOLD);
-            } else if (isCurrentYear) {
+                yearTextView.setTextColor(selectedColor);
+                yearTextView.setTypeface(null, Typeface.BOLD);
+            } else if (year == currentYear) {
                 // Current year - use accent color
-                int accentColor = ContextCompat.getColor(itemView.getContext(),
-                        android.R.color.holo_blue_dark);
-                yearTextView.setTextColor(accentColor);
-                yearTextView.setTypeface(null, android.graphics.Typeface.NORMAL);
+                yearTextView.setTextColor(currentColor);
+                yearTextView.setTypeface(null, Typeface.NORMAL);
             } else {
                 // Regular year
-                int textColor = ContextCompat.getColor(itemView.getContext(),
-                        android.R.color.black);
                 yearTextView.setTextColor(textColor);
-                yearTextView.setTypeface(null, android.graphics.Typeface.NORMAL);
+                yearTextView.setTypeface(null, Typeface.NORMAL);
             }
-
-            // Set click listener
-            itemView.setOnClickListener(v -> {
-                if (listener != null) {
-                    listener.onYearSelected(year);
-                }
-            });
         }
     }
 }
@@ -0,0 +1,159 @@
+package com.shalom.android.material.datepicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import androidx.core.util.Pair;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.BitSet;
+
+/**
+ * Checks that the steady-state hot paths of the picker allocate nothing per call, measured with
+ * the per-thread allocation counter of HotSpot. Each path is warmed up first so that class
+ * loading and lazily built caches are excluded, then run many times; any per-call allocation
+ * shows up as a non-zero average.
+ *
+ * <p>The tests are skipped on JVMs without thread allocation accounting.
+ */
+public class AllocationBudgetTest {
+
+    private static final int WARM_UP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 100_000;
+
+    /** Number of cells in a month grid. */
+    private static final int GRID_CELLS = 42;
+
+    /** Consumes results so the measured work cannot be optimized away. */
+    private static long sink;
+
+    private com.sun.management.ThreadMXBean threadBean;
+
+    private Month month;
+    private Month nextYear;
+    private CalendarConstraints constraints;
+
+    @Before
+    public void setUp() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        month = Month.create(2017, 3);
+        nextYear = month.monthsLater(13);
+        int start = month.getStartEpochDay();
+        constraints = new CalendarConstraints.Builder()
+                .setStart(month.monthsLater(-12).getTimeInMillis())
+                .setEnd(nextYear.getTimeInMillis())
+                .setValidator(new IntervalDateValidator.Builder()
+                        .addEpochDayRange(start + 3, start + 5)
+                        .addEpochDayRange(start + 20, start + 20)
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void converterPrimitives_doNotAllocate() {
+        int base = month.getStartEpochDay();
+        assertNoAllocation(i -> {
+            int epochDay = base + (i & 1023);
+            int year = EthiopicDateConverter.epochDayToEthiopicYear(epochDay);
+            return EthiopicDateConverter.ethiopicToEpochDay(year, 1, 1)
+                    + EthiopicDateConverter.dayOfWeek(epochDay)
+                    + EthiopicDateConverter.getEthiopicYearDays(year);
+        });
+    }
+
+    @Test
+    public void monthArithmetic_doesNotAllocate() {
+        assertNoAllocation(i -> month.monthsUntil(nextYear)
+                + month.getStartEpochDay()
+                + month.getDaysInMonth()
+                + month.getStartDayOfWeek()
+                + month.compareTo(nextYear));
+    }
+
+    @Test
+    public void isWithinBounds_withoutValidator_doesNotAllocate() {
+        CalendarConstraints unvalidated = new CalendarConstraints.Builder().build();
+        long time = month.getTimeInMillis();
+        assertNoAllocation(i -> unvalidated.isWithinBounds(time + i) ? 1 : 0);
+    }
+
+    @Test
+    public void singleDateSelector_getDayState_doesNotAllocate() {
+        SingleDateSelector selector = new SingleDateSelector();
+        selector.setSelection(Month.toTimeInMillis(month.getStartEpochDay() + 10));
+        assertDayStateDoesNotAllocate(selector);
+    }
+
+    @Test
+    public void rangeDateSelector_getDayState_doesNotAllocate() {
+        RangeDateSelector selector = new RangeDateSelector();
+        selector.setSelection(new Pair<>(
+                Month.toTimeInMillis(month.getStartEpochDay() + 4),
+                Month.toTimeInMillis(month.getStartEpochDay() + 40)));
+        assertDayStateDoesNotAllocate(selector);
+    }
+
+    @Test
+    public void multiDateSelector_getDayState_doesNotAllocate() {
+        MultiDateSelector selector = new MultiDateSelector();
+        int start = month.getStartEpochDay();
+        selector.setSelection(EpochDaySet.of(new int[] {start + 1, start + 7, start + 19, start + 33}));
+        assertDayStateDoesNotAllocate(selector);
+    }
+
+    /**
+     * The model side of binding a month page whose validity is cached: recomputing the mask into
+     * a reused {@link BitSet} and resolving the state of every grid cell.
+     */
+    @Test
+    public void cachedMonthBind_doesNotAllocate() {
+        RangeDateSelector selector = new RangeDateSelector();
+        selector.setSelection(new Pair<>(
+                Month.toTimeInMillis(month.getStartEpochDay() + 2),
+                Month.toTimeInMillis(month.getStartEpochDay() + 12)));
+        BitSet validDays = new BitSet(GRID_CELLS);
+        int firstCell = month.getStartEpochDay() - (month.getStartDayOfWeek() % 7);
+
+        assertNoAllocation(i -> {
+            constraints.getValidDays(month, validDays);
+            long states = validDays.cardinality();
+            for (int cell = 0; cell < GRID_CELLS; cell++) {
+                states += selector.getDayState(firstCell + cell);
+            }
+            return states;
+        });
+    }
+
+    private void assertDayStateDoesNotAllocate(DateSelector<?> selector) {
+        int base = month.getStartEpochDay() - GRID_CELLS;
+        assertNoAllocation(i -> selector.getDayState(base + (i & 127)));
+    }
+
+    private void assertNoAllocation(Workload workload) {
+        long thread = Thread.currentThread().getId();
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            sink += workload.run(i);
+        }
+
+        long before = threadBean.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += workload.run(i);
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(thread) - before;
+
+        // Integer division tolerates the few bytes the counter itself may account for
+        assertEquals("Bytes allocated per call", 0, allocated / MEASURED_ITERATIONS);
+    }
+
+    private interface Workload {
+        long run(int iteration);
+    }
+}
@@ -0,0 +1,46 @@
+package com.shalom.android.material.datepicker;
+
+import androidx.annotation.NonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts rendering work reported through {@link PickerMetricsListener}.
+ */
+final class BindCostCounter implements PickerMetricsListener {
+
+    static final String MONTHS_CREATED = "months_created";
+    static final String VALIDATOR_CALLS = "validator_calls";
+
+    private final Map<String, Integer> counts = new HashMap<>();
+
+    @Override
+    public void onViewHolderCreated(@NonNull String adapterName) {
+        increment(adapterName + ".create");
+    }
+
+    @Override
+    public void onViewHolderBound(@NonNull String adapterName) {
+        increment(adapterName + ".bind");
+    }
+
+    @Override
+    public void onMonthCreated() {
+        increment(MONTHS_CREATED);
+    }
+
+    synchronized void increment(@NonNull String key) {
+        Integer current = counts.get(key);
+        counts.put(key, current == null ? 1 : current + 1);
+    }
+
+    synchronized int get(@NonNull String key) {
+        Integer current = counts.get(key);
+        return current == null ? 0 : current;
+    }
+
+    synchronized void reset() {
+        counts.clear();
+    }
+}
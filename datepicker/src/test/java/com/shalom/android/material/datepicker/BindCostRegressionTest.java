@@ -0,0 +1,206 @@
+package com.shalom.android.material.datepicker;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Bundle;
+import android.os.Looper;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.TextView;
+
+import androidx.annotation.Nullable;
+import androidx.fragment.app.FragmentActivity;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.viewpager2.widget.ViewPager2;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * Drives the picker through scripted scenarios and checks the rendering work against the bounds
+ * in {@code bind_cost_thresholds.properties}, so regressions in the rendering pipeline fail the
+ * build.
+ *
+ * <p>Background loads and label measuring run inline on the calling thread, so everything they
+ * post has reached the main looper by the next {@link #idle()} and the counts do not depend on
+ * thread timing. Each scenario prints its counts, the source for updating the thresholds.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class BindCostRegressionTest {
+
+    private static final String[] COUNTERS = {
+            PickerMetricsListener.ADAPTER_MONTHS_PAGER + ".create",
+            PickerMetricsListener.ADAPTER_MONTHS_PAGER + ".bind",
+            PickerMetricsListener.ADAPTER_MONTH + ".create",
+            PickerMetricsListener.ADAPTER_MONTH + ".bind",
+            PickerMetricsListener.ADAPTER_YEAR_GRID + ".create",
+            PickerMetricsListener.ADAPTER_YEAR_GRID + ".bind",
+            BindCostCounter.MONTHS_CREATED,
+            BindCostCounter.VALIDATOR_CALLS,
+    };
+
+    /** Host activity with the AppCompat theme the library layouts expect. */
+    public static class ThemedActivity extends FragmentActivity {
+        @Override
+        protected void onCreate(@Nullable Bundle savedInstanceState) {
+            setTheme(androidx.appcompat.R.style.Theme_AppCompat_Light);
+            super.onCreate(savedInstanceState);
+        }
+    }
+
+    private final BindCostCounter counter = new BindCostCounter();
+    private Properties thresholds;
+    private FragmentActivity activity;
+
+    @Before
+    public void setUp() throws IOException {
+        thresholds = new Properties();
+        try (InputStream in = getClass().getClassLoader()
+                .getResourceAsStream("bind_cost_thresholds.properties")) {
+            assertNotNull("bind_cost_thresholds.properties is missing", in);
+            thresholds.load(in);
+        }
+
+        MonthDataLoader.setExecutorForTesting(Runnable::run);
+        activity = Robolectric.buildActivity(ThemedActivity.class).setup().get();
+
+        PickerMetrics.setListener(counter);
+        resetCounts();
+    }
+
+    @After
+    public void tearDown() {
+        PickerMetrics.setListener(null);
+        MonthDataLoader.setExecutorForTesting(null);
+    }
+
+    @Test
+    public void openPicker() {
+        MaterialDatePicker<Long> picker = MaterialDatePicker.Builder(new SingleDateSelector())
+                .setCalendarConstraints(countingConstraints())
+                .build();
+        picker.show(activity.getSupportFragmentManager(), "picker");
+        idle();
+
+        assertNotNull(picker.getDialog());
+        assertWithinThresholds("open");
+    }
+
+    @Test
+    public void swipeTwentyFourMonths() {
+        MaterialCalendar<Long> calendar = showCalendar(new SingleDateSelector());
+        ViewPager2 pager = calendar.requireView().findViewById(R.id.mtrl_calendar_months);
+        resetCounts();
+
+        for (int i = 0; i < 24; i++) {
+            pager.setCurrentItem(pager.getCurrentItem() + 1, false);
+            idle();
+        }
+
+        assertWithinThresholds("swipe");
+    }
+
+    @Test
+    public void toggleYearPicker() {
+        MaterialCalendar<Long> calendar = showCalendar(new SingleDateSelector());
+        View toggle = calendar.requireView().findViewById(R.id.mtrl_picker_header_toggle);
+        resetCounts();
+
+        toggle.performClick();
+        idle();
+        toggle.performClick();
+        idle();
+
+        assertWithinThresholds("year_toggle");
+    }
+
+    @Test
+    public void tapFiftyDays() {
+        MaterialCalendar<Long> calendar = showCalendar(new SingleDateSelector());
+        ViewPager2 pager = calendar.requireView().findViewById(R.id.mtrl_calendar_months);
+        resetCounts();
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue("No day " + (i % 28 + 1) + " to tap", tapDay(pager, i % 28 + 1));
+            idle();
+        }
+
+        assertWithinThresholds("tap");
+    }
+
+    private MaterialCalendar<Long> showCalendar(DateSelector<Long> dateSelector) {
+        MaterialCalendar<Long> calendar = MaterialCalendar.newInstance(dateSelector, countingConstraints());
+        activity.getSupportFragmentManager()
+                .beginTransaction()
+                .add(android.R.id.content, calendar)
+                .commitNow();
+        idle();
+        return calendar;
+    }
+
+    private static CalendarConstraints countingConstraints() {
+        return new CalendarConstraints.Builder()
+                .setOpenAt(Month.create(2017, 1).getTimeInMillis())
+                .setValidator(new CountingDateValidator())
+                .build();
+    }
+
+    /** Clicks the cell showing {@code day} on the visible page. */
+    private static boolean tapDay(ViewPager2 pager, int day) {
+        RecyclerView pages = (RecyclerView) pager.getChildAt(0);
+        RecyclerView.ViewHolder page = pages.findViewHolderForAdapterPosition(pager.getCurrentItem());
+        if (page == null) {
+            return false;
+        }
+        ViewGroup grid = (ViewGroup) ((ViewGroup) page.itemView).getChildAt(0);
+        String label = String.valueOf(day);
+        for (int i = 0; i < grid.getChildCount(); i++) {
+            TextView cell = (TextView) grid.getChildAt(i);
+            if (cell.isEnabled() && label.contentEquals(cell.getText())) {
+                return cell.performClick();
+            }
+        }
+        return false;
+    }
+
+    private void resetCounts() {
+        idle();
+        counter.reset();
+        CountingDateValidator.calls.set(0);
+    }
+
+    private void assertWithinThresholds(String scenario) {
+        idle();
+        StringBuilder counts = new StringBuilder("Bind cost of ").append(scenario).append(':');
+        StringBuilder failures = new StringBuilder();
+        for (String name : COUNTERS) {
+            int count = BindCostCounter.VALIDATOR_CALLS.equals(name)
+                    ? CountingDateValidator.calls.get()
+                    : counter.get(name);
+            counts.append(' ').append(name).append('=').append(count);
+            String limit = thresholds.getProperty(scenario + "." + name);
+            if (limit != null && count > Integer.parseInt(limit.trim())) {
+                failures.append('\n').append(scenario).append('.').append(name)
+                        .append(": ").append(count).append(" > ").append(limit);
+            }
+        }
+        System.out.println(counts);
+        assertTrue("Rendering cost regressed:" + failures, failures.length() == 0);
+    }
+
+    private static void idle() {
+        shadowOf(Looper.getMainLooper()).idle();
+    }
+}
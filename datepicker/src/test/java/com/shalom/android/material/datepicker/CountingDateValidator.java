@@ -0,0 +1,45 @@
+package com.shalom.android.material.datepicker;
+
+import android.os.Parcel;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link DateValidator} accepting every day and counting how often it is asked. It relies on
+ * the default {@link DateValidator#isValidRange}, so each batch also counts its per-day calls.
+ */
+final class CountingDateValidator implements DateValidator {
+
+    static final AtomicInteger calls = new AtomicInteger();
+
+    @Override
+    public boolean isValid(long date) {
+        calls.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public int describeContents() {
+        return 0;
+    }
+
+    @Override
+    public void writeToParcel(@NonNull Parcel dest, int flags) {
+    }
+
+    public static final Creator<CountingDateValidator> CREATOR = new Creator<CountingDateValidator>() {
+        @NonNull
+        @Override
+        public CountingDateValidator createFromParcel(@NonNull Parcel source) {
+            return new CountingDateValidator();
+        }
+
+        @NonNull
+        @Override
+        public CountingDateValidator[] newArray(int size) {
+            return new CountingDateValidator[size];
+        }
+    };
+}
@@ -0,0 +1,97 @@
+package com.shalom.android.material.datepicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.os.Parcel;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.BitSet;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class IntervalDateValidatorTest {
+
+    @Test
+    public void overlappingRangesMergeInAnyOrder() {
+        IntervalDateValidator validator = new IntervalDateValidator.Builder()
+                .addEpochDayRange(40, 45)
+                .addEpochDayRange(10, 20)
+                .addEpochDayRange(15, 30)
+                .addEpochDayRange(31, 31)
+                .build();
+        assertEquals(2, validator.getRangeCount());
+        assertTrue(validator.isBlocked(31));
+        assertFalse(validator.isBlocked(32));
+        assertFalse(validator.isValid(EpochDays.toTimeInMillis(10)));
+        assertTrue(validator.isValid(EpochDays.toTimeInMillis(46)));
+
+        // Timestamps within a day block that whole day
+        IntervalDateValidator byTime = new IntervalDateValidator.Builder()
+                .addRange(EpochDays.toTimeInMillis(10) + 3_600_000L, EpochDays.toTimeInMillis(12))
+                .build();
+        assertTrue(byTime.isBlocked(10));
+        assertTrue(byTime.isBlocked(12));
+        assertFalse(byTime.isBlocked(13));
+    }
+
+    @Test
+    public void monthValidityMatchesPerDayChecks() {
+        Month first = Month.create(2015, 11);
+        Month pagume = Month.create(2015, 13);
+        int pagumeStart = pagume.getStartEpochDay();
+        // Blocks straddle month edges, including the short Pagume and the new year
+        IntervalDateValidator validator = new IntervalDateValidator.Builder()
+                .addEpochDayRange(first.getStartEpochDay() - 3, first.getStartEpochDay() + 1)
+                .addEpochDayRange(first.monthsLater(1).getStartEpochDay() - 1,
+                        first.monthsLater(1).getStartEpochDay())
+                .addEpochDayRange(pagumeStart + 2, pagumeStart + 8)
+                .build();
+        CalendarConstraints constraints = new CalendarConstraints.Builder()
+                .setStart(first.monthsLater(-1).getTimeInMillis())
+                .setEnd(first.monthsLater(6).getTimeInMillis())
+                .setValidator(validator)
+                .build();
+
+        BitSet out = new BitSet();
+        for (int m = 0; m < 5; m++) {
+            Month month = first.monthsLater(m);
+            constraints.getValidDays(month, out);
+            for (int day = 0; day < month.getDaysInMonth(); day++) {
+                int epochDay = month.getStartEpochDay() + day;
+                assertEquals(month.getMonth() + "/" + (day + 1),
+                        validator.isValid(EpochDays.toTimeInMillis(epochDay)), out.get(day));
+            }
+            assertEquals(-1, out.nextSetBit(month.getDaysInMonth()));
+        }
+
+        constraints.getValidDays(pagume, out);
+        assertEquals(2, out.cardinality());
+        assertFalse(constraints.hasValidDays(pagumeStart + 2, 4, true));
+    }
+
+    @Test
+    public void parcelRoundTripKeepsTheRanges() {
+        IntervalDateValidator.Builder builder = new IntervalDateValidator.Builder();
+        for (int i = 0; i < 200; i++) {
+            builder.addEpochDayRange(i * 10 - 500, i * 10 - 500 + i % 7);
+        }
+        IntervalDateValidator validator = builder.build();
+
+        Parcel parcel = Parcel.obtain();
+        try {
+            validator.writeToParcel(parcel, 0);
+            parcel.setDataPosition(0);
+            IntervalDateValidator restored = IntervalDateValidator.CREATOR.createFromParcel(parcel);
+            assertEquals(validator, restored);
+            assertEquals(validator.getRangeCount(), restored.getRangeCount());
+        } finally {
+            parcel.recycle();
+        }
+    }
+}
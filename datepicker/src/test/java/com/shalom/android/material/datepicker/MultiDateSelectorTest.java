@@ -0,0 +1,118 @@
+package com.shalom.android.material.datepicker;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import android.os.Parcel;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class MultiDateSelectorTest {
+
+    private static final int DAY = 19_000;
+
+    private final MultiDateSelector selector = new MultiDateSelector();
+
+    @Test
+    public void tapsToggleDaysAndLeaveSnapshotsAlone() {
+        assertFalse(selector.isSelectionComplete());
+        selector.select(millis(DAY));
+        selector.select(millis(DAY + 2));
+        EpochDaySet snapshot = selector.getSelection();
+        assertTrue(selector.isSelectionComplete());
+
+        selector.select(millis(DAY));
+        assertArrayEquals(new int[] {DAY, DAY + 2}, snapshot.toEpochDayArray());
+        assertArrayEquals(new int[] {DAY + 2}, selector.getSelection().toEpochDayArray());
+        assertEquals(DateSelector.DAY_STATE_NONE, selector.getDayState(DAY));
+        assertEquals(DateSelector.DAY_STATE_SELECTED, selector.getDayState(DAY + 2));
+    }
+
+    @Test
+    public void selectWithDeltaReportsTheToggledDay() {
+        SelectionDelta delta = selector.selectWithDelta(millis(DAY));
+        assertArrayEquals(new int[] {DAY}, delta.getAddedDays());
+        assertEquals(0, delta.getRemovedDays().length);
+
+        delta = selector.selectWithDelta(millis(DAY) + 3_600_000L);
+        assertArrayEquals(new int[] {DAY}, delta.getRemovedDays());
+        assertEquals(0, delta.getAddedDays().length);
+        assertTrue(selector.getSelection().isEmpty());
+    }
+
+    @Test
+    public void fillDayStatesMatchesGetDayState() {
+        for (int day = DAY - 40; day < DAY + 80; day += 3) {
+            selector.select(millis(day));
+        }
+        int[] states = new int[42];
+        Arrays.fill(states, -1);
+        selector.fillDayStates(DAY, 30, states);
+        for (int i = 0; i < 30; i++) {
+            assertEquals(selector.getDayState(DAY + i), states[i]);
+        }
+        // Cells past the month are not written
+        assertEquals(-1, states[30]);
+
+        // The scratch mask does not leak a previous month's days
+        selector.fillDayStates(DAY + 1000, 30, states);
+        for (int i = 0; i < 30; i++) {
+            assertEquals(DateSelector.DAY_STATE_NONE, states[i]);
+        }
+    }
+
+    @Test
+    public void setSelectionAcceptsAnySetOfTimestamps() {
+        Set<Long> days = new HashSet<>(Arrays.asList(millis(DAY + 5), millis(DAY), millis(DAY) + 60_000L));
+        selector.setSelection(days);
+        assertArrayEquals(new int[] {DAY, DAY + 5}, selector.getSelection().toEpochDayArray());
+
+        EpochDaySet set = EpochDaySet.of(new int[] {1, 2, 3});
+        selector.setSelection(set);
+        assertSame(set, selector.getSelection());
+
+        selector.setSelection(null);
+        assertSame(EpochDaySet.empty(), selector.getSelection());
+    }
+
+    @Test
+    public void parcelRoundTripKeepsSparseAndDenseSelections() {
+        // Sparse days take the delta encoding, a dense month the bitmap
+        selector.setSelection(EpochDaySet.of(new int[] {-300, DAY, DAY + 5000}));
+        assertEquals(selector.getSelection(), parcel(selector).getSelection());
+
+        for (int day = DAY; day < DAY + 30; day++) {
+            selector.select(millis(day));
+        }
+        assertEquals(selector.getSelection(), parcel(selector).getSelection());
+
+        assertTrue(parcel(new MultiDateSelector()).getSelection().isEmpty());
+    }
+
+    private static long millis(int epochDay) {
+        return EpochDays.toTimeInMillis(epochDay);
+    }
+
+    private static MultiDateSelector parcel(MultiDateSelector selector) {
+        Parcel parcel = Parcel.obtain();
+        try {
+            selector.writeToParcel(parcel, 0);
+            parcel.setDataPosition(0);
+            return MultiDateSelector.CREATOR.createFromParcel(parcel);
+        } finally {
+            parcel.recycle();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.shalom.android.material.datepicker;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import android.os.Parcel;
+
+import androidx.core.util.Pair;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class RangeDateSelectorTest {
+
+    private static final int DAY = 19_000;
+
+    private final RangeDateSelector selector = new RangeDateSelector();
+
+    @Test
+    public void tapsStartEndAndRestartRanges() {
+        assertFalse(selector.isSelectionComplete());
+        assertEquals(DateSelector.DAY_STATE_NONE, selector.getDayState(DAY));
+
+        selector.select(millis(DAY));
+        assertFalse(selector.isSelectionComplete());
+        assertEquals(DateSelector.DAY_STATE_SELECTED, selector.getDayState(DAY));
+        assertEquals(DateSelector.DAY_STATE_NONE, selector.getDayState(DAY + 1));
+
+        // A tap before the start restarts the range there
+        selector.select(millis(DAY - 5));
+        assertEquals(Long.valueOf(millis(DAY - 5)), selector.getSelection().first);
+        assertNull(selector.getSelection().second);
+
+        selector.select(millis(DAY + 3));
+        assertTrue(selector.isSelectionComplete());
+        assertEquals(DateSelector.DAY_STATE_NONE, selector.getDayState(DAY - 6));
+        assertEquals(DateSelector.DAY_STATE_RANGE_START, selector.getDayState(DAY - 5));
+        assertEquals(DateSelector.DAY_STATE_IN_RANGE, selector.getDayState(DAY));
+        assertEquals(DateSelector.DAY_STATE_RANGE_END, selector.getDayState(DAY + 3));
+        assertEquals(DateSelector.DAY_STATE_NONE, selector.getDayState(DAY + 4));
+        assertEquals(2, selector.getSelectedDays().size());
+
+        // After a complete range any tap starts a new one, even inside the old range
+        selector.select(millis(DAY));
+        assertFalse(selector.isSelectionComplete());
+        assertEquals(DateSelector.DAY_STATE_SELECTED, selector.getDayState(DAY));
+        assertEquals(DateSelector.DAY_STATE_NONE, selector.getDayState(DAY - 5));
+    }
+
+    @Test
+    public void sameDayRangeIsDrawnAsOneSelectedDay() {
+        selector.select(millis(DAY));
+        selector.select(millis(DAY) + 3_600_000L);
+        assertTrue(selector.isSelectionComplete());
+        assertEquals(DateSelector.DAY_STATE_SELECTED, selector.getDayState(DAY));
+    }
+
+    @Test
+    public void selectWithDeltaReportsOnlyChangedDays() {
+        SelectionDelta delta = selector.selectWithDelta(millis(DAY));
+        assertArrayEquals(new int[] {DAY}, delta.getAddedDays());
+        assertEquals(0, delta.getRemovedDays().length);
+
+        // Ending a range ten years out adds a single range rather than thousands of days
+        delta = selector.selectWithDelta(millis(DAY + 3650));
+        assertEquals(1, delta.getAddedRanges().getRangeCount());
+        assertEquals(DAY + 1, delta.getAddedRanges().getStart(0));
+        assertEquals(DAY + 3650, delta.getAddedRanges().getEnd(0));
+        assertEquals(0, delta.getRemovedRanges().getRangeCount());
+
+        // A new start inside the old range removes everything else
+        delta = selector.selectWithDelta(millis(DAY + 10));
+        assertEquals(0, delta.getAddedRanges().getRangeCount());
+        assertEquals(2, delta.getRemovedRanges().getRangeCount());
+        assertEquals(DAY + 9, delta.getRemovedRanges().getEnd(0));
+        assertEquals(DAY + 11, delta.getRemovedRanges().getStart(1));
+
+        // Ending the range on its start day changes no cell
+        assertSame(SelectionDelta.NONE, selector.selectWithDelta(millis(DAY + 10)));
+        assertTrue(selector.isSelectionComplete());
+    }
+
+    @Test
+    public void setSelectionValidatesTheOrder() {
+        selector.setSelection(new Pair<>(millis(DAY), millis(DAY + 2)));
+        assertEquals(DateSelector.DAY_STATE_IN_RANGE, selector.getDayState(DAY + 1));
+        selector.setSelection(null);
+        assertEquals(DateSelector.DAY_STATE_NONE, selector.getDayState(DAY));
+        try {
+            selector.setSelection(new Pair<>(millis(DAY + 2), millis(DAY)));
+            throw new AssertionError("Expected an inverted range to be rejected");
+        } catch (IllegalArgumentException expected) {
+            // Rejected
+        }
+    }
+
+    @Test
+    public void parcelRoundTripKeepsPartialAndCompleteRanges() {
+        selector.select(millis(DAY));
+        RangeDateSelector partial = parcel(selector);
+        assertEquals(selector.getSelection().first, partial.getSelection().first);
+        assertNull(partial.getSelection().second);
+        assertEquals(DateSelector.DAY_STATE_SELECTED, partial.getDayState(DAY));
+
+        selector.select(millis(DAY + 4));
+        RangeDateSelector complete = parcel(selector);
+        assertEquals(selector.getSelection().second, complete.getSelection().second);
+        assertEquals(DateSelector.DAY_STATE_RANGE_END, complete.getDayState(DAY + 4));
+
+        assertNull(parcel(new RangeDateSelector()).getSelection().first);
+    }
+
+    private static long millis(int epochDay) {
+        return EpochDays.toTimeInMillis(epochDay);
+    }
+
+    private static RangeDateSelector parcel(RangeDateSelector selector) {
+        Parcel parcel = Parcel.obtain();
+        try {
+            selector.writeToParcel(parcel, 0);
+            parcel.setDataPosition(0);
+            return RangeDateSelector.CREATOR.createFromParcel(parcel);
+        } finally {
+            parcel.recycle();
+        }
+    }
+}
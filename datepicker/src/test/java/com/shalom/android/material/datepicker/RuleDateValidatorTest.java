@@ -0,0 +1,65 @@
+package com.shalom.android.material.datepicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.os.Parcel;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.BitSet;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class RuleDateValidatorTest {
+
+    @Test
+    public void parcelRoundTripKeepsTheRules() {
+        int start = EthiopicDateConverter.ethiopicToEpochDay(2017, 3, 1);
+        RuleDateValidator validator = new RuleDateValidator.Builder()
+                .weekdaysOnly()
+                .excludeMonth(13)
+                .excludeFixedHolidays()
+                .dayOfMonthBetween(1, 15)
+                .excludeEpochDayRange(start + 3, start + 9)
+                .build();
+
+        Parcel parcel = Parcel.obtain();
+        try {
+            validator.writeToParcel(parcel, 0);
+            parcel.setDataPosition(0);
+            RuleDateValidator restored = RuleDateValidator.CREATOR.createFromParcel(parcel);
+            assertEquals(validator, restored);
+            assertEquals(validator.getRules(), restored.getRules());
+
+            BitSet expected = new BitSet();
+            BitSet actual = new BitSet();
+            validator.isValidRange(start, 400, expected);
+            restored.isValidRange(start, 400, actual);
+            assertEquals(expected, actual);
+        } finally {
+            parcel.recycle();
+        }
+    }
+
+    @Test
+    public void timestampsAndEpochDaysAgree() {
+        RuleDateValidator validator = new RuleDateValidator.Builder().excludeDate(1, 17).build();
+        int meskel = EthiopicDateConverter.ethiopicToEpochDay(2017, 1, 17);
+        assertFalse(validator.isValidEpochDay(meskel));
+        assertFalse(validator.isValid(EpochDays.toTimeInMillis(meskel)));
+        assertTrue(validator.isValid(EpochDays.toTimeInMillis(meskel + 1)));
+
+        // A range excluded by timestamps covers both of its end days
+        RuleDateValidator excluded = new RuleDateValidator.Builder()
+                .excludeRange(EpochDays.toTimeInMillis(meskel), EpochDays.toTimeInMillis(meskel + 2))
+                .build();
+        BitSet out = new BitSet();
+        excluded.isValidRange(meskel - 1, 5, out);
+        assertEquals("{0, 4}", out.toString());
+    }
+}
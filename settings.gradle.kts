@@ -22,4 +22,5 @@ dependencyResolutionManagement {
 rootProject.name = "EthiopicDatePickerLib"
 include(":app")
 include(":datepicker")
+include(":datepicker-core")
  
\ No newline at end of file